@@ -0,0 +1,308 @@
+package bench;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import math.LagrangePolynomial;
+import math.NewtonPolynomial;
+import math.Point;
+import math.PointSet;
+import math.Polynomial;
+
+/**
+ * Объем памяти, выделяемой публичными операциями {@link Polynomial},
+ * {@link LagrangePolynomial}, {@link NewtonPolynomial} и {@link Point}.
+ *
+ * Время здесь вторично: бенчмарки запускаются с профилировщиком GC
+ * (см. {@link AllocationBudgetCheck}), который сообщает gc.alloc.rate.norm -
+ * байты на операцию. Размер данных фиксирован ({@value #SIZE} коэффициентов/узлов),
+ * поэтому результаты сравнимы с бюджетами из allocation-budgets.properties.
+ * Имя метода - ключ бюджета: префикс задает класс, суффикс - операцию.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class AllocationBenchmark {
+    /**
+     * Количество коэффициентов полиномов и узлов интерполяции.
+     */
+    static final int SIZE = 100;
+
+    private static final double EVALUATION_POINT = 0.3141592653589793;
+
+    private static final Point EXTRA_POINT = new Point(2.0, NodeDistribution.value(2.0));
+
+    private static final List<Point> EXTRA_POINTS = List.of(
+        EXTRA_POINT, new Point(3.0, NodeDistribution.value(3.0)));
+
+    private double[] coefficients;
+    private List<Double> coefficientList;
+    private Polynomial p;
+    private Polynomial q;
+    private double[] xs;
+    private double[] out;
+
+    private List<Point> points;
+    private PointSet pointSet;
+    private LagrangePolynomial lagrange;
+    private NewtonPolynomial newton;
+
+    private Point point;
+    private Point samePoint;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(NodeDistribution.SEED);
+        coefficients = new double[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            coefficients[i] = 2 * random.nextDouble() - 1;
+        }
+        coefficients[SIZE - 1] = 1.0;
+        p = new Polynomial(coefficients);
+        q = p.multiply(0.5).add(new Polynomial(1.0));
+        coefficientList = p.getCoefficients();
+        xs = NodeDistribution.RANDOM.nodes(SIZE);
+        out = new double[SIZE];
+
+        points = NodeDistribution.CHEBYSHEV.points(SIZE);
+        double[] nodes = NodeDistribution.CHEBYSHEV.nodes(SIZE);
+        double[] values = new double[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            values[i] = NodeDistribution.value(nodes[i]);
+        }
+        pointSet = PointSet.of(nodes, values);
+        lagrange = new LagrangePolynomial(points);
+        newton = new NewtonPolynomial(points);
+        // Материализуем ленивые коэффициенты: операции чтения измеряются без перестроения
+        lagrange.getCoefficients();
+        newton.getCoefficients();
+
+        point = new Point(1.5, 2.5);
+        samePoint = new Point(1.5, 2.5);
+    }
+
+    // Polynomial
+
+    @Benchmark
+    public Polynomial polynomialNewFromArray() {
+        return new Polynomial(coefficients);
+    }
+
+    @Benchmark
+    public Polynomial polynomialNewFromList() {
+        return new Polynomial(coefficientList);
+    }
+
+    @Benchmark
+    public int polynomialDegree() {
+        return p.degree();
+    }
+
+    @Benchmark
+    public List<Double> polynomialGetCoefficients() {
+        return p.getCoefficients();
+    }
+
+    @Benchmark
+    public Object polynomialGetCoefficientsView() {
+        return p.getCoefficientsView();
+    }
+
+    @Benchmark
+    public String polynomialToString() {
+        return p.toString();
+    }
+
+    @Benchmark
+    public boolean polynomialEquals() {
+        return p.equals(q);
+    }
+
+    @Benchmark
+    public int polynomialHashCode() {
+        return p.hashCode();
+    }
+
+    @Benchmark
+    public Polynomial polynomialAdd() {
+        return p.add(q);
+    }
+
+    @Benchmark
+    public Polynomial polynomialSubtract() {
+        return p.subtract(q);
+    }
+
+    @Benchmark
+    public Polynomial polynomialMultiply() {
+        return p.multiply(q);
+    }
+
+    @Benchmark
+    public Polynomial polynomialMultiplyScalar() {
+        return p.multiply(1.5);
+    }
+
+    @Benchmark
+    public Polynomial polynomialDivide() {
+        return p.divide(1.5);
+    }
+
+    @Benchmark
+    public double polynomialEvaluate() {
+        return p.evaluate(EVALUATION_POINT);
+    }
+
+    @Benchmark
+    public double[] polynomialEvaluateBatch() {
+        p.evaluate(xs, out);
+        return out;
+    }
+
+    // LagrangePolynomial
+
+    @Benchmark
+    public LagrangePolynomial lagrangeNew() {
+        return new LagrangePolynomial(points);
+    }
+
+    @Benchmark
+    public LagrangePolynomial lagrangeOf() {
+        return LagrangePolynomial.of(pointSet);
+    }
+
+    @Benchmark
+    public double lagrangeEvaluate() {
+        return lagrange.evaluate(EVALUATION_POINT);
+    }
+
+    @Benchmark
+    public double[] lagrangeEvaluateBatch() {
+        lagrange.evaluate(xs, out);
+        return out;
+    }
+
+    @Benchmark
+    public List<Point> lagrangeGetPoints() {
+        return lagrange.getPoints();
+    }
+
+    @Benchmark
+    public List<Double> lagrangeGetCoefficients() {
+        return lagrange.getCoefficients();
+    }
+
+    @Benchmark
+    public String lagrangeToString() {
+        return lagrange.toString();
+    }
+
+    /**
+     * Добавление и удаление точки правее всех узлов; состояние полинома не меняется.
+     */
+    @Benchmark
+    public boolean lagrangeAddRemovePoint() {
+        lagrange.addPoint(EXTRA_POINT);
+        return lagrange.removePoint(EXTRA_POINT);
+    }
+
+    // NewtonPolynomial
+
+    @Benchmark
+    public NewtonPolynomial newtonNew() {
+        return new NewtonPolynomial(points);
+    }
+
+    @Benchmark
+    public NewtonPolynomial newtonOf() {
+        return NewtonPolynomial.of(pointSet);
+    }
+
+    @Benchmark
+    public double newtonEvaluate() {
+        return newton.evaluate(EVALUATION_POINT);
+    }
+
+    @Benchmark
+    public double[] newtonEvaluateBatch() {
+        newton.evaluate(xs, out);
+        return out;
+    }
+
+    @Benchmark
+    public List<Point> newtonGetPoints() {
+        return newton.getPoints();
+    }
+
+    @Benchmark
+    public List<Double> newtonGetCoefficients() {
+        return newton.getCoefficients();
+    }
+
+    @Benchmark
+    public double[] newtonGetDividedDifferences() {
+        return newton.getDividedDifferences();
+    }
+
+    @Benchmark
+    public String newtonToString() {
+        return newton.toString();
+    }
+
+    /**
+     * Добавление и удаление точки правее всех узлов; состояние полинома не меняется.
+     */
+    @Benchmark
+    public boolean newtonAddRemovePoint() {
+        newton.addPoint(EXTRA_POINT);
+        return newton.removePoint(EXTRA_POINT);
+    }
+
+    @Benchmark
+    public int newtonAddRemovePoints() {
+        newton.addPoints(EXTRA_POINTS);
+        return newton.removePoints(EXTRA_POINTS);
+    }
+
+    // Point
+
+    @Benchmark
+    public Point pointNew() {
+        return new Point(1.5, 2.5);
+    }
+
+    @Benchmark
+    public double pointGetX() {
+        return point.getX();
+    }
+
+    @Benchmark
+    public boolean pointEquals() {
+        return point.equals(samePoint);
+    }
+
+    @Benchmark
+    public int pointHashCode() {
+        return point.hashCode();
+    }
+
+    @Benchmark
+    public String pointToString() {
+        return point.toString();
+    }
+}
@@ -0,0 +1,130 @@
+package bench;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.regex.Pattern;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Запускает {@link AllocationBenchmark} с профилировщиком GC и сравнивает
+ * байты на операцию с бюджетами из файла свойств.
+ *
+ * Аргумент - путь к файлу бюджетов (по умолчанию {@value #DEFAULT_BUDGETS}),
+ * ключ - имя метода бенчмарка, значение - допустимое число байт на операцию.
+ * Процесс завершается с кодом 1, если хотя бы одна операция превысила бюджет
+ * или не имеет бюджета. Полные результаты сохраняются в {@value #RESULT}.
+ */
+public final class AllocationBudgetCheck {
+    static final String DEFAULT_BUDGETS = "allocation-budgets.properties";
+    static final String RESULT = "target/jmh-alloc-result.json";
+
+    /**
+     * Вторичная метрика GCProfiler: выделенные байты, нормированные на операцию.
+     */
+    static final String ALLOCATION_METRIC = "gc.alloc.rate.norm";
+
+    private AllocationBudgetCheck() {
+    }
+
+    public static void main(String[] args) throws IOException, RunnerException {
+        Path budgetFile = Paths.get(args.length > 0 ? args[0] : DEFAULT_BUDGETS);
+        Map<String, Long> budgets = loadBudgets(budgetFile);
+
+        Options options = new OptionsBuilder()
+            .include(Pattern.quote(AllocationBenchmark.class.getName() + "."))
+            .addProfiler(GCProfiler.class)
+            .resultFormat(ResultFormatType.JSON)
+            .result(RESULT)
+            .build();
+        Collection<RunResult> results = new Runner(options).run();
+
+        Map<String, Double> measured = new TreeMap<>();
+        for (RunResult result : results) {
+            String benchmark = result.getParams().getBenchmark();
+            Result allocation = result.getSecondaryResults().get(ALLOCATION_METRIC);
+            if (allocation == null) {
+                throw new IllegalStateException("Profiler did not report " + ALLOCATION_METRIC + " for " + benchmark);
+            }
+            measured.put(benchmark.substring(benchmark.lastIndexOf('.') + 1), allocation.getScore());
+        }
+
+        List<String> violations = violations(measured, budgets);
+        System.out.println();
+        System.out.printf("%-32s %14s %14s%n", "Operation", "Bytes/op", "Budget");
+        for (Map.Entry<String, Double> entry : measured.entrySet()) {
+            Long budget = budgets.get(entry.getKey());
+            System.out.printf("%-32s %14.1f %14s%n", entry.getKey(), entry.getValue(),
+                budget == null ? "-" : budget.toString());
+        }
+        for (String key : budgets.keySet()) {
+            if (!measured.containsKey(key)) {
+                System.out.println("Warning: budget without benchmark: " + key);
+            }
+        }
+
+        if (!violations.isEmpty()) {
+            System.err.println();
+            System.err.println("Allocation budgets exceeded (" + budgetFile + "):");
+            violations.forEach(v -> System.err.println("  " + v));
+            System.exit(1);
+        }
+        System.out.println("All " + measured.size() + " operations are within allocation budgets");
+    }
+
+    /**
+     * Сравнивает измерения с бюджетами.
+     *
+     * @param measured байты на операцию по имени бенчмарка
+     * @param budgets бюджеты по имени бенчмарка
+     * @return описания нарушений: превышенные и отсутствующие бюджеты
+     */
+    static List<String> violations(Map<String, Double> measured, Map<String, Long> budgets) {
+        List<String> violations = new ArrayList<>();
+        for (Map.Entry<String, Double> entry : measured.entrySet()) {
+            Long budget = budgets.get(entry.getKey());
+            if (budget == null) {
+                violations.add(entry.getKey() + ": no budget, measured "
+                    + Math.round(entry.getValue()) + " bytes/op");
+            } else if (entry.getValue() > budget) {
+                violations.add(entry.getKey() + ": " + Math.round(entry.getValue())
+                    + " bytes/op exceeds budget " + budget);
+            }
+        }
+        return violations;
+    }
+
+    private static Map<String, Long> loadBudgets(Path file) throws IOException {
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            properties.load(reader);
+        }
+        Map<String, Long> budgets = new TreeMap<>();
+        for (String key : properties.stringPropertyNames()) {
+            String value = properties.getProperty(key).trim();
+            try {
+                budgets.put(key, Long.parseLong(value));
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid budget for " + key + ": " + value, e);
+            }
+        }
+        return budgets;
+    }
+}
@@ -0,0 +1,30 @@
+package bench;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Заявленная сложность операции, измеряемой бенчмарком, как функция параметра n.
+ *
+ * {@link ScalingCheck} оценивает показатель степени k в зависимости t(n) ~ nᵏ
+ * по результатам бенчмарка и сравнивает его с {@link #exponent()}.
+ * Логарифмические множители в показатель не входят: O(n log n) объявляется
+ * с показателем 1, запас на log n дает допуск проверки.
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface Complexity {
+    /**
+     * Запись сложности для отчетов, например "O(n^2)".
+     */
+    String value();
+
+    /**
+     * Показатель степени n в заявленной сложности.
+     */
+    double exponent();
+}
@@ -0,0 +1,117 @@
+package bench;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import math.LagrangePolynomial;
+import math.NewtonPolynomial;
+import math.Point;
+
+/**
+ * Построение интерполяционных полиномов, добавление точки и вычисление значения.
+ *
+ * Степень полинома на единицу меньше числа узлов. Добавление точки измеряется
+ * парой addPoint/removePoint, чтобы состояние не росло от вызова к вызову:
+ * добавляемая точка лежит правее всех узлов, поэтому обе операции линейны.
+ * Для Ньютона пара выполняется над полиномом с узлами в порядке добавления:
+ * добавление продлевает разделенные разности за O(n), удаление последнего узла
+ * пересчитывает их за O(n), как веса Лагранжа. У полинома с отсортированными узлами
+ * addPoint только помечает разности устаревшими, и пара не измеряла бы их пересчет.
+ *
+ * Степени ограничены 500. Барицентрические веса Лагранжа хранятся без масштабирования
+ * и для узлов на [-1, 1] убывают как 2⁻ⁿ, а разделенные разности Ньютона растут:
+ * примерно с 750 узлов и те и другие выходят за диапазон double, и вычисление
+ * возвращает NaN. {@link #setUp()} проверяет, что значения конечны, чтобы
+ * не измерять вырожденные вычисления.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class InterpolationBenchmark {
+    /**
+     * Точка вычисления, не совпадающая ни с одним узлом.
+     */
+    private static final double EVALUATION_POINT = 0.3141592653589793;
+
+    private static final Point EXTRA_POINT = new Point(2.0, NodeDistribution.value(2.0));
+
+    @Param({"10", "100", "500"})
+    public int degree;
+
+    @Param({"RANDOM", "EQUISPACED", "CHEBYSHEV"})
+    public NodeDistribution distribution;
+
+    private List<Point> points;
+    private LagrangePolynomial lagrange;
+    private NewtonPolynomial newton;
+    private NewtonPolynomial newtonInInsertionOrder;
+
+    @Setup
+    public void setUp() {
+        points = distribution.points(degree + 1);
+        lagrange = new LagrangePolynomial(points);
+        newton = new NewtonPolynomial(points);
+        newtonInInsertionOrder = NewtonPolynomial.inInsertionOrder();
+        newtonInInsertionOrder.addPoints(points);
+        // Прогоняем ленивые пересчеты, чтобы вычисление значения измерялось отдельно от них
+        checkFinite("LagrangePolynomial", lagrange.evaluate(EVALUATION_POINT));
+        checkFinite("NewtonPolynomial", newton.evaluate(EVALUATION_POINT));
+        newtonInInsertionOrder.addPoint(EXTRA_POINT);
+        checkFinite("NewtonPolynomial in insertion order", newtonInInsertionOrder.evaluate(EVALUATION_POINT));
+        newtonInInsertionOrder.removePoint(EXTRA_POINT);
+    }
+
+    private void checkFinite(String polynomial, double value) {
+        if (!Double.isFinite(value)) {
+            throw new IllegalStateException(polynomial + " is not finite for " + (degree + 1) + " "
+                + distribution + " nodes: p(" + EVALUATION_POINT + ") = " + value);
+        }
+    }
+
+    @Benchmark
+    public LagrangePolynomial lagrangeConstruct() {
+        return new LagrangePolynomial(points);
+    }
+
+    @Benchmark
+    public NewtonPolynomial newtonConstruct() {
+        return new NewtonPolynomial(points);
+    }
+
+    @Benchmark
+    public double lagrangeEvaluate() {
+        return lagrange.evaluate(EVALUATION_POINT);
+    }
+
+    @Benchmark
+    public double newtonEvaluate() {
+        return newton.evaluate(EVALUATION_POINT);
+    }
+
+    @Benchmark
+    public boolean lagrangeAddPoint() {
+        lagrange.addPoint(EXTRA_POINT);
+        return lagrange.removePoint(EXTRA_POINT);
+    }
+
+    @Benchmark
+    public boolean newtonAddPoint() {
+        newtonInInsertionOrder.addPoint(EXTRA_POINT);
+        return newtonInInsertionOrder.removePoint(EXTRA_POINT);
+    }
+}
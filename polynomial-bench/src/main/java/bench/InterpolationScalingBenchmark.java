@@ -0,0 +1,114 @@
+package bench;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import math.LagrangePolynomial;
+import math.NewtonPolynomial;
+import math.Point;
+
+/**
+ * Время операций интерполяционных полиномов при n от 40 до 640 с удвоением шага.
+ *
+ * Верхняя граница ниже порога, с которого вычисления в double теряют смысл:
+ * барицентрические веса Лагранжа исчезают в нуль примерно с 870 узлов Чебышева,
+ * разделенные разности Ньютона переполняются примерно с 820. За порогом операции
+ * выполняются над NaN, и подгонка показателя в {@link ScalingCheck} измеряла бы
+ * не рабочий код, поэтому {@link #setUp()} проверяет конечность значений.
+ * Сложность помечена {@link Complexity}, как в {@link ScalingBenchmark}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class InterpolationScalingBenchmark {
+    private static final double EVALUATION_POINT = 0.3141592653589793;
+    private static final Point EXTRA_POINT = new Point(2.0, NodeDistribution.value(2.0));
+
+    @Param({"40", "80", "160", "320", "640"})
+    public int n;
+
+    private List<Point> points;
+    private LagrangePolynomial lagrange;
+    private NewtonPolynomial newton;
+
+    /**
+     * Строит полиномы по n узлам Чебышева.
+     *
+     * @throws IllegalStateException если значение полинома, в том числе после
+     *         добавления точки, не конечно
+     */
+    @Setup
+    public void setUp() {
+        points = NodeDistribution.CHEBYSHEV.points(n);
+        lagrange = new LagrangePolynomial(points);
+        newton = new NewtonPolynomial(points);
+
+        checkFinite("LagrangePolynomial", lagrange.evaluate(EVALUATION_POINT));
+        checkFinite("NewtonPolynomial", newton.evaluate(EVALUATION_POINT)); // Строит разделенные разности заранее
+        lagrange.addPoint(EXTRA_POINT);
+        checkFinite("LagrangePolynomial with extra point", lagrange.evaluate(EVALUATION_POINT));
+        lagrange.removePoint(EXTRA_POINT);
+    }
+
+    private void checkFinite(String polynomial, double value) {
+        if (!Double.isFinite(value)) {
+            throw new IllegalStateException(polynomial + " is not finite for " + n
+                + " Chebyshev nodes: p(" + EVALUATION_POINT + ") = " + value);
+        }
+    }
+
+    @Benchmark
+    @Complexity(value = "O(n^2)", exponent = 2)
+    public LagrangePolynomial lagrangeConstruct() {
+        return new LagrangePolynomial(points);
+    }
+
+    /**
+     * Добавление точки правее всех узлов и ее удаление; состояние не меняется.
+     */
+    @Benchmark
+    @Complexity(value = "O(n)", exponent = 1)
+    public boolean lagrangeAddPoint() {
+        lagrange.addPoint(EXTRA_POINT);
+        return lagrange.removePoint(EXTRA_POINT);
+    }
+
+    /**
+     * Добавление n точек в пустой полином и первое вычисление,
+     * которое строит разделенные разности.
+     */
+    @Benchmark
+    @Complexity(value = "O(n^2)", exponent = 2)
+    public double newtonAddPoints() {
+        NewtonPolynomial polynomial = new NewtonPolynomial();
+        polynomial.addPoints(points);
+        return polynomial.evaluate(EVALUATION_POINT);
+    }
+
+    @Benchmark
+    @Complexity(value = "O(n)", exponent = 1)
+    public double lagrangeEvaluate() {
+        return lagrange.evaluate(EVALUATION_POINT);
+    }
+
+    @Benchmark
+    @Complexity(value = "O(n)", exponent = 1)
+    public double newtonEvaluate() {
+        return newton.evaluate(EVALUATION_POINT);
+    }
+}
@@ -0,0 +1,85 @@
+package bench;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import math.MultipointEvaluator;
+import math.Polynomial;
+
+/**
+ * Вычисление полинома степени 2000 в 2000 фиксированных точках: дерево
+ * субпроизведений {@link MultipointEvaluator} против пакетной схемы Горнера
+ * {@link Polynomial#evaluate(double[], double[])}.
+ *
+ * Точки - равноотстоящая сетка на [-scale, scale]. При scale = 1 деление
+ * на многочлены узлов неустойчиво, и вычислитель сводится к схеме Горнера;
+ * при scale = 0.05 значения получаются делением по дереву.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MultipointEvaluationBenchmark {
+    private static final int POINTS = 2000;
+    private static final int DEGREE = 2000;
+
+    @Param({"1.0", "0.05"})
+    public double scale;
+
+    private double[] xs;
+    private double[] out;
+    private Polynomial p;
+    private MultipointEvaluator evaluator;
+
+    @Setup
+    public void setUp() {
+        xs = NodeDistribution.EQUISPACED.nodes(POINTS);
+        for (int i = 0; i < xs.length; i++) {
+            xs[i] *= scale;
+        }
+        out = new double[POINTS];
+        Random random = new Random(NodeDistribution.SEED);
+        double[] coefficients = new double[DEGREE + 1];
+        for (int i = 0; i < coefficients.length; i++) {
+            coefficients[i] = 2 * random.nextDouble() - 1;
+        }
+        coefficients[DEGREE] = 1.0;
+        p = new Polynomial(coefficients);
+        evaluator = new MultipointEvaluator(xs);
+        evaluator.evaluate(p, out); // Обратные ряды узлов строятся при первом вычислении
+    }
+
+    @Benchmark
+    public double[] multipoint() {
+        evaluator.evaluate(p, out);
+        return out;
+    }
+
+    @Benchmark
+    public double[] batchHorner() {
+        p.evaluate(xs, out);
+        return out;
+    }
+
+    /**
+     * Построение дерева и первое вычисление, включая обратные ряды узлов.
+     */
+    @Benchmark
+    public double[] multipointWithSetup() {
+        return new MultipointEvaluator(xs).evaluate(p);
+    }
+}
@@ -0,0 +1,102 @@
+package bench;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import math.Point;
+
+/**
+ * Распределение узлов интерполяции на отрезке [-1, 1].
+ *
+ * Узлы всегда различны, значения в узлах - гладкая функция sin(3x) + x²,
+ * поэтому время вычислений не зависит от случайных выбросов в данных.
+ */
+public enum NodeDistribution {
+    /**
+     * Случайные узлы: по одному равномерно распределенному узлу в каждом из n
+     * равных подотрезков, затем перемешанные. Так узлы гарантированно различны.
+     */
+    RANDOM {
+        @Override
+        double node(int i, int count, Random random) {
+            double step = 2.0 / count;
+            return -1.0 + (i + 0.1 + 0.8 * random.nextDouble()) * step;
+        }
+    },
+
+    /**
+     * Равноотстоящие узлы, включая концы отрезка.
+     */
+    EQUISPACED {
+        @Override
+        double node(int i, int count, Random random) {
+            return count == 1 ? 0.0 : -1.0 + 2.0 * i / (count - 1);
+        }
+    },
+
+    /**
+     * Узлы Чебышева первого рода cos((2i + 1)π / 2n).
+     */
+    CHEBYSHEV {
+        @Override
+        double node(int i, int count, Random random) {
+            return Math.cos((2 * i + 1) * Math.PI / (2 * count));
+        }
+    };
+
+    /**
+     * Фиксированное зерно для воспроизводимости результатов между запусками.
+     */
+    static final long SEED = 42;
+
+    abstract double node(int i, int count, Random random);
+
+    /**
+     * Строит абсциссы узлов.
+     *
+     * @param count количество узлов
+     * @return массив различных абсцисс из [-1, 1]
+     */
+    public double[] nodes(int count) {
+        Random random = new Random(SEED);
+        double[] xs = new double[count];
+        for (int i = 0; i < count; i++) {
+            xs[i] = node(i, count, random);
+        }
+        if (this == RANDOM) {
+            for (int i = count - 1; i > 0; i--) {
+                int j = random.nextInt(i + 1);
+                double t = xs[i];
+                xs[i] = xs[j];
+                xs[j] = t;
+            }
+        }
+        return xs;
+    }
+
+    /**
+     * Значение интерполируемой функции.
+     *
+     * @param x абсцисса
+     * @return sin(3x) + x²
+     */
+    public static double value(double x) {
+        return Math.sin(3 * x) + x * x;
+    }
+
+    /**
+     * Строит точки интерполяции.
+     *
+     * @param count количество точек
+     * @return новый изменяемый список точек
+     */
+    public List<Point> points(int count) {
+        double[] xs = nodes(count);
+        List<Point> points = new ArrayList<>(count);
+        for (double x : xs) {
+            points.add(new Point(x, value(x)));
+        }
+        return points;
+    }
+}
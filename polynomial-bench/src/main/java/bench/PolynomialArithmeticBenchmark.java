@@ -0,0 +1,94 @@
+package bench;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import math.Polynomial;
+
+/**
+ * Арифметика и вычисление значения {@link Polynomial} со случайными коэффициентами.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PolynomialArithmeticBenchmark {
+    /**
+     * Количество точек, в которых вычисляется значение в пакетном режиме.
+     */
+    private static final int BATCH_SIZE = 1024;
+
+    @Param({"10", "100", "1000", "10000"})
+    public int degree;
+
+    private Polynomial p;
+    private Polynomial q;
+    private double x;
+    private double[] xs;
+    private double[] out;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(NodeDistribution.SEED);
+        p = new Polynomial(randomCoefficients(random, degree + 1));
+        q = new Polynomial(randomCoefficients(random, degree + 1));
+        // Значение внутри (-1, 1), чтобы вычисление не уходило в переполнение
+        x = 0.5 + 0.1 * random.nextDouble();
+        xs = NodeDistribution.RANDOM.nodes(BATCH_SIZE);
+        out = new double[BATCH_SIZE];
+    }
+
+    private static double[] randomCoefficients(Random random, int length) {
+        double[] coefficients = new double[length];
+        for (int i = 0; i < length; i++) {
+            coefficients[i] = 2 * random.nextDouble() - 1;
+        }
+        coefficients[length - 1] = 1.0; // Точная степень
+        return coefficients;
+    }
+
+    @Benchmark
+    public Polynomial add() {
+        return p.add(q);
+    }
+
+    @Benchmark
+    public Polynomial subtract() {
+        return p.subtract(q);
+    }
+
+    @Benchmark
+    public Polynomial multiply() {
+        return p.multiply(q);
+    }
+
+    @Benchmark
+    public Polynomial multiplyScalar() {
+        return p.multiply(1.5);
+    }
+
+    @Benchmark
+    public double evaluate() {
+        return p.evaluate(x);
+    }
+
+    @Benchmark
+    public double[] evaluateBatch() {
+        p.evaluate(xs, out);
+        return out;
+    }
+}
@@ -0,0 +1,125 @@
+package bench;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import math.Polynomial;
+
+/**
+ * Время операций {@link Polynomial} при n от 10² до 10⁴ с шагом в полдекады.
+ *
+ * Каждый бенчмарк помечен заявленной сложностью {@link Complexity};
+ * {@link ScalingCheck} подгоняет по результатам показатель степени
+ * и сообщает об операциях, которые растут быстрее заявленного.
+ * Интерполяционные полиномы измеряются в {@link InterpolationScalingBenchmark}
+ * на меньших n: при n ≥ 1000 их вычисление в double дает NaN.
+ *
+ * Умножение при автоматическом выборе алгоритма меняет асимптотику на пороге БПФ
+ * (n = 1024 по умолчанию), поэтому измеряется отдельно для каждого алгоритма:
+ * пороги закрепляются состояниями {@link KaratsubaOnly} и {@link FftOnly}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ScalingBenchmark {
+    private static final double EVALUATION_POINT = 0.3141592653589793;
+
+    @Param({"100", "316", "1000", "3162", "10000"})
+    public int n;
+
+    private Polynomial p;
+    private Polynomial q;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(NodeDistribution.SEED);
+        double[] a = new double[n];
+        double[] b = new double[n];
+        for (int i = 0; i < n; i++) {
+            a[i] = 2 * random.nextDouble() - 1;
+            b[i] = 2 * random.nextDouble() - 1;
+        }
+        a[n - 1] = 1.0;
+        b[n - 1] = 1.0;
+        p = new Polynomial(a);
+        q = new Polynomial(b);
+    }
+
+    /**
+     * Карацуба на всех n: порог БПФ отключен.
+     */
+    @Benchmark
+    @Complexity(value = "O(n^1.585)", exponent = 1.585)
+    public Polynomial polynomialMultiplyKaratsuba(KaratsubaOnly pinned) {
+        return p.multiply(q);
+    }
+
+    /**
+     * БПФ на всех n: порог БПФ ниже наименьшего n.
+     */
+    @Benchmark
+    @Complexity(value = "O(n log n)", exponent = 1)
+    public Polynomial polynomialMultiplyFft(FftOnly pinned) {
+        return p.multiply(q);
+    }
+
+    @Benchmark
+    @Complexity(value = "O(n)", exponent = 1)
+    public double polynomialEvaluate() {
+        return p.evaluate(EVALUATION_POINT);
+    }
+
+    /**
+     * Закрепляет умножение Карацубы, отключая переход на БПФ.
+     */
+    @State(Scope.Thread)
+    public static class KaratsubaOnly {
+        private int previous;
+
+        @Setup
+        public void setUp() {
+            previous = Polynomial.getFftThreshold();
+            Polynomial.setFftThreshold(Integer.MAX_VALUE);
+        }
+
+        @TearDown
+        public void tearDown() {
+            Polynomial.setFftThreshold(previous);
+        }
+    }
+
+    /**
+     * Закрепляет умножение через БПФ для операндов длиннее порога Карацубы.
+     */
+    @State(Scope.Thread)
+    public static class FftOnly {
+        private int previous;
+
+        @Setup
+        public void setUp() {
+            previous = Polynomial.getFftThreshold();
+            Polynomial.setFftThreshold(Polynomial.getKaratsubaThreshold());
+        }
+
+        @TearDown
+        public void tearDown() {
+            Polynomial.setFftThreshold(previous);
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package bench;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.regex.Pattern;
+
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Запускает {@link ScalingBenchmark} и {@link InterpolationScalingBenchmark},
+ * оценивает для каждой операции показатель k
+ * в зависимости t(n) ~ nᵏ и сравнивает его с заявленным в {@link Complexity}.
+ *
+ * Показатель - наклон прямой, подогнанной методом наименьших квадратов к точкам
+ * (ln n, ln t). Операция считается регрессией, если наклон больше заявленного
+ * показателя на величину допуска (аргумент, по умолчанию {@value #DEFAULT_TOLERANCE}).
+ * Допуск покрывает логарифмические множители и влияние кешей: переход
+ * от O(n²) к O(n³) увеличивает наклон на 1. Процесс завершается с кодом 1
+ * при регрессии. Полные результаты сохраняются в {@value #RESULT}.
+ */
+public final class ScalingCheck {
+    private static final List<Class<?>> BENCHMARKS =
+        List.of(ScalingBenchmark.class, InterpolationScalingBenchmark.class);
+    static final double DEFAULT_TOLERANCE = 0.3;
+    static final String RESULT = "target/jmh-scaling-result.json";
+
+    private ScalingCheck() {
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        double tolerance = args.length > 0 ? Double.parseDouble(args[0]) : DEFAULT_TOLERANCE;
+
+        OptionsBuilder builder = new OptionsBuilder();
+        for (Class<?> benchmark : BENCHMARKS) {
+            builder.include(Pattern.quote(benchmark.getName() + "."));
+        }
+        Options options = builder
+            .resultFormat(ResultFormatType.JSON)
+            .result(RESULT)
+            .build();
+        Collection<RunResult> results = new Runner(options).run();
+
+        // Время по операциям: имя метода -> (n -> среднее время)
+        Map<String, Map<Integer, Double>> timings = new TreeMap<>();
+        for (RunResult result : results) {
+            String benchmark = result.getParams().getBenchmark();
+            String operation = benchmark.substring(benchmark.lastIndexOf('.') + 1);
+            int n = Integer.parseInt(result.getParams().getParam("n"));
+            timings.computeIfAbsent(operation, k -> new TreeMap<>()).put(n, result.getPrimaryResult().getScore());
+        }
+
+        List<String> regressions = new ArrayList<>();
+        System.out.println();
+        System.out.printf("%-28s %-12s %9s %9s%n", "Operation", "Declared", "Fitted", "Limit");
+        for (Map.Entry<String, Map<Integer, Double>> entry : timings.entrySet()) {
+            Complexity declared = declaredComplexity(entry.getKey());
+            if (declared == null) {
+                throw new IllegalStateException("Benchmark without @Complexity: " + entry.getKey());
+            }
+
+            double fitted = fitExponent(entry.getValue());
+            double limit = declared.exponent() + tolerance;
+            boolean regression = fitted > limit;
+            System.out.printf("%-28s %-12s %9.2f %9.2f%s%n", entry.getKey(), declared.value(), fitted, limit,
+                regression ? "  REGRESSION" : "");
+            if (regression) {
+                regressions.add(String.format("%s: fitted exponent %.2f exceeds declared %s (limit %.2f)",
+                    entry.getKey(), fitted, declared.value(), limit));
+            }
+        }
+
+        if (!regressions.isEmpty()) {
+            System.err.println();
+            System.err.println("Complexity regressions:");
+            regressions.forEach(r -> System.err.println("  " + r));
+            System.exit(1);
+        }
+        System.out.println("All " + timings.size() + " operations scale within declared complexity");
+    }
+
+    /**
+     * Возвращает заявленную сложность метода бенчмарка; методы могут принимать состояния JMH.
+     */
+    private static Complexity declaredComplexity(String operation) {
+        for (Class<?> benchmark : BENCHMARKS) {
+            for (Method method : benchmark.getMethods()) {
+                if (method.getName().equals(operation) && method.isAnnotationPresent(Complexity.class)) {
+                    return method.getAnnotation(Complexity.class);
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Оценивает показатель степени наклоном регрессии ln t по ln n.
+     *
+     * @param timings время по значениям n, не менее двух различных n
+     * @return наклон прямой наименьших квадратов
+     * @throws IllegalArgumentException если различных n меньше двух или время не положительно
+     */
+    static double fitExponent(Map<Integer, Double> timings) {
+        if (timings.size() < 2) {
+            throw new IllegalArgumentException("At least two sizes are required: " + timings.keySet());
+        }
+        int count = timings.size();
+        double sumX = 0.0;
+        double sumY = 0.0;
+        double[] xs = new double[count];
+        double[] ys = new double[count];
+        int i = 0;
+        for (Map.Entry<Integer, Double> entry : timings.entrySet()) {
+            if (!(entry.getValue() > 0.0)) {
+                throw new IllegalArgumentException("Time must be positive for n = " + entry.getKey());
+            }
+            xs[i] = Math.log(entry.getKey());
+            ys[i] = Math.log(entry.getValue());
+            sumX += xs[i];
+            sumY += ys[i];
+            i++;
+        }
+        double meanX = sumX / count;
+        double meanY = sumY / count;
+        double covariance = 0.0;
+        double variance = 0.0;
+        for (i = 0; i < count; i++) {
+            covariance += (xs[i] - meanX) * (ys[i] - meanY);
+            variance += (xs[i] - meanX) * (xs[i] - meanX);
+        }
+        return covariance / variance;
+    }
+}
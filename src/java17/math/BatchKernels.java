@@ -0,0 +1,39 @@
+package math;
+
+/**
+ * Вычислительные ядра пакетного вычисления полиномов для JDK 17+.
+ *
+ * Эта версия попадает в META-INF/versions/17 многоверсионного JAR. Если модуль
+ * jdk.incubator.vector подключен (--add-modules jdk.incubator.vector) и не отключен
+ * свойством -Dmath.polynomial.simd=false, вычисления выполняются в {@link SimdKernels};
+ * иначе - в {@link ScalarKernels} из основной версии, как и на JDK 11.
+ */
+final class BatchKernels {
+    private static final boolean SIMD = Boolean.parseBoolean(System.getProperty("math.polynomial.simd", "true"))
+        && ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent();
+
+    private BatchKernels() {
+    }
+
+    static String backend() {
+        return SIMD ? "vector" : "scalar";
+    }
+
+    static void horner(double[] c, double[] block, int size, double[] out, int outOffset) {
+        if (SIMD) {
+            SimdKernels.horner(c, block, size, out, outOffset);
+        } else {
+            ScalarKernels.horner(c, block, size, out, outOffset);
+        }
+    }
+
+    static void barycentric(double[] nodeX, double[] nodeY, double[] weights, int n,
+                            double[] block, int size, double[] out, int outOffset,
+                            double[] numerator, double[] denominator) {
+        if (SIMD) {
+            SimdKernels.barycentric(nodeX, nodeY, weights, n, block, size, out, outOffset);
+        } else {
+            ScalarKernels.barycentric(nodeX, nodeY, weights, n, block, size, out, outOffset, numerator, denominator);
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package math;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * SIMD-ядра на jdk.incubator.vector. Класс загружается только из {@link BatchKernels},
+ * когда модуль присутствует, поэтому без --add-modules ссылок на него не возникает.
+ *
+ * Каждая дорожка вектора обрабатывает свою точку, аккумуляторы живут в регистрах.
+ * Умножение со сложением выполняется через FMA, поэтому результат может отличаться
+ * от скалярного на 1-2 ulp на каждом шаге схемы.
+ *
+ * Схема Горнера для одного вектора - цепочка зависимых FMA, и ее скорость
+ * ограничена задержкой FMA (около 4 тактов), а не пропускной способностью.
+ * Поэтому {@link #horner} ведет {@value #INTERLEAVE} независимых вектора точек
+ * за один проход по коэффициентам: на 1024 точках это в 2-3.5 раза быстрее
+ * одной цепочки для степеней 100-1000.
+ */
+final class SimdKernels {
+    private static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+    private static final int INTERLEAVE = 4; // Количество независимых аккумуляторов в horner
+
+    private SimdKernels() {
+    }
+
+    static void horner(double[] c, double[] block, int size, double[] out, int outOffset) {
+        int n = c.length - 1;
+        int lanes = SPECIES.length();
+        int i = 0;
+        for (; i + INTERLEAVE * lanes <= size; i += INTERLEAVE * lanes) {
+            DoubleVector x0 = DoubleVector.fromArray(SPECIES, block, i);
+            DoubleVector x1 = DoubleVector.fromArray(SPECIES, block, i + lanes);
+            DoubleVector x2 = DoubleVector.fromArray(SPECIES, block, i + 2 * lanes);
+            DoubleVector x3 = DoubleVector.fromArray(SPECIES, block, i + 3 * lanes);
+            DoubleVector acc0 = DoubleVector.broadcast(SPECIES, c[n]);
+            DoubleVector acc1 = acc0;
+            DoubleVector acc2 = acc0;
+            DoubleVector acc3 = acc0;
+            for (int k = n - 1; k >= 0; k--) {
+                double ck = c[k];
+                acc0 = acc0.lanewise(VectorOperators.FMA, x0, ck);
+                acc1 = acc1.lanewise(VectorOperators.FMA, x1, ck);
+                acc2 = acc2.lanewise(VectorOperators.FMA, x2, ck);
+                acc3 = acc3.lanewise(VectorOperators.FMA, x3, ck);
+            }
+            acc0.intoArray(out, outOffset + i);
+            acc1.intoArray(out, outOffset + i + lanes);
+            acc2.intoArray(out, outOffset + i + 2 * lanes);
+            acc3.intoArray(out, outOffset + i + 3 * lanes);
+        }
+        int bound = SPECIES.loopBound(size);
+        for (; i < bound; i += lanes) {
+            DoubleVector x = DoubleVector.fromArray(SPECIES, block, i);
+            DoubleVector acc = DoubleVector.broadcast(SPECIES, c[n]);
+            for (int k = n - 1; k >= 0; k--) {
+                acc = acc.lanewise(VectorOperators.FMA, x, c[k]);
+            }
+            acc.intoArray(out, outOffset + i);
+        }
+        for (; i < size; i++) {
+            double x = block[i];
+            double result = c[n];
+            for (int k = n - 1; k >= 0; k--) {
+                result = result * x + c[k];
+            }
+            out[outOffset + i] = result;
+        }
+    }
+
+    static void barycentric(double[] nodeX, double[] nodeY, double[] weights, int n,
+                            double[] block, int size, double[] out, int outOffset) {
+        int bound = SPECIES.loopBound(size);
+        int i = 0;
+        for (; i < bound; i += SPECIES.length()) {
+            DoubleVector x = DoubleVector.fromArray(SPECIES, block, i);
+            DoubleVector numerator = DoubleVector.zero(SPECIES);
+            DoubleVector denominator = DoubleVector.zero(SPECIES);
+            for (int j = 0; j < n; j++) {
+                DoubleVector temp = DoubleVector.broadcast(SPECIES, weights[j]).div(x.sub(nodeX[j]));
+                numerator = temp.lanewise(VectorOperators.FMA, nodeY[j], numerator);
+                denominator = denominator.add(temp);
+            }
+            numerator.div(denominator).intoArray(out, outOffset + i);
+        }
+        for (; i < size; i++) {
+            double x = block[i];
+            double numerator = 0.0;
+            double denominator = 0.0;
+            for (int j = 0; j < n; j++) {
+                double temp = weights[j] / (x - nodeX[j]);
+                numerator += temp * nodeY[j];
+                denominator += temp;
+            }
+            out[outOffset + i] = numerator / denominator;
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package math;
+
+/**
+ * Вычислительные ядра пакетного вычисления полиномов.
+ *
+ * Это версия для JDK 11: она передает вычисления в {@link ScalarKernels}. В многоверсионном
+ * JAR для JDK 17+ класс подменяется версией из META-INF/versions/17, которая использует
+ * jdk.incubator.vector, если модуль подключен (--add-modules jdk.incubator.vector),
+ * и вызывает те же {@link ScalarKernels} в противном случае.
+ */
+final class BatchKernels {
+    private BatchKernels() {
+    }
+
+    /**
+     * Возвращает имя используемой реализации ядер.
+     *
+     * @return "scalar" или "vector"
+     */
+    static String backend() {
+        return "scalar";
+    }
+
+    /**
+     * Схема Горнера для блока точек: out[outOffset + i] = p(block[i]).
+     *
+     * @see ScalarKernels#horner(double[], double[], int, double[], int)
+     */
+    static void horner(double[] c, double[] block, int size, double[] out, int outOffset) {
+        ScalarKernels.horner(c, block, size, out, outOffset);
+    }
+
+    /**
+     * Барицентрическая формула для блока точек; совпадения с узлами обрабатывает вызывающий код.
+     *
+     * @see ScalarKernels#barycentric(double[], double[], double[], int, double[], int, double[], int, double[], double[])
+     */
+    static void barycentric(double[] nodeX, double[] nodeY, double[] weights, int n,
+                            double[] block, int size, double[] out, int outOffset,
+                            double[] numerator, double[] denominator) {
+        ScalarKernels.barycentric(nodeX, nodeY, weights, n, block, size, out, outOffset, numerator, denominator);
+    }
+}
@@ -0,0 +1,122 @@
+package math;
+
+import java.util.Objects;
+
+/**
+ * Таблица разделенных разностей для узлов x₀, ..., xₙ₋₁ со значениями y₀, ..., yₙ₋₁.
+ *
+ * Разность порядка k: f[x_i, ..., x_{i+k}] = (f[x_{i+1}, ..., x_{i+k}] - f[x_i, ..., x_{i+k-1}]) / (x_{i+k} - x_i),
+ * f[x_i] = y_i. Столбец порядка k содержит n - k разностей f[x_i, ..., x_{i+k}],
+ * диагональ f[x₀], f[x₀, x₁], ..., f[x₀, ..., xₙ₋₁] - коэффициенты полинома Ньютона.
+ *
+ * Все методы вычисляют столбцы последовательно в одном буфере длины n:
+ * столбец порядка k получается из столбца порядка k - 1 на месте.
+ * Полная таблица строится за O(n²) времени, диагональ и отдельный столбец -
+ * за O(n²) времени и O(n) памяти. Узлы не обязаны быть отсортированы,
+ * но должны различаться не меньше чем на {@link Polynomial#EPSILON} - по тому же
+ * критерию, что и в {@link NewtonPolynomial#addPoint(Point)}.
+ */
+public final class DividedDifferences {
+    private DividedDifferences() {
+    }
+
+    /**
+     * Строит полную треугольную таблицу разделенных разностей.
+     *
+     * @param xs абсциссы узлов
+     * @param ys значения в узлах
+     * @return таблица, где table[k][i] = f[x_i, ..., x_{i+k}], строка k имеет длину n - k
+     * @throws NullPointerException если xs или ys равен null
+     * @throws IllegalArgumentException если длины различаются или узлы совпадают
+     */
+    public static double[][] table(double[] xs, double[] ys) {
+        int n = checkedLength(xs, ys);
+        double[][] table = new double[n][];
+        double[] buffer = ys.clone();
+        for (int k = 0; k < n; k++) {
+            if (k > 0) {
+                nextOrder(xs, buffer, n, k);
+            }
+            double[] column = new double[n - k];
+            System.arraycopy(buffer, 0, column, 0, n - k);
+            table[k] = column;
+        }
+        return table;
+    }
+
+    /**
+     * Вычисляет верхнюю диагональ таблицы - коэффициенты полинома Ньютона.
+     *
+     * @param xs абсциссы узлов
+     * @param ys значения в узлах
+     * @return массив, где d[k] = f[x₀, ..., x_k]
+     * @throws NullPointerException если xs или ys равен null
+     * @throws IllegalArgumentException если длины различаются или узлы совпадают
+     */
+    public static double[] diagonal(double[] xs, double[] ys) {
+        return diagonal(xs, ys, checkedLength(xs, ys));
+    }
+
+    /**
+     * Вычисляет один столбец таблицы.
+     *
+     * @param xs абсциссы узлов
+     * @param ys значения в узлах
+     * @param order порядок разностей k, 0 ≤ k < n
+     * @return массив длины n - k, где c[i] = f[x_i, ..., x_{i+k}]
+     * @throws NullPointerException если xs или ys равен null
+     * @throws IllegalArgumentException если длины различаются или узлы совпадают
+     * @throws IndexOutOfBoundsException если порядок вне диапазона
+     */
+    public static double[] column(double[] xs, double[] ys, int order) {
+        int n = checkedLength(xs, ys);
+        Objects.checkIndex(order, n);
+        double[] buffer = ys.clone();
+        for (int k = 1; k <= order; k++) {
+            nextOrder(xs, buffer, n, k);
+        }
+        double[] column = new double[n - order];
+        System.arraycopy(buffer, 0, column, 0, n - order);
+        return column;
+    }
+
+    /**
+     * Вычисляет верхнюю диагональ по первым n узлам, без проверки аргументов.
+     */
+    static double[] diagonal(double[] xs, double[] ys, int n) {
+        double[] buffer = new double[n];
+        System.arraycopy(ys, 0, buffer, 0, n);
+        double[] diagonal = new double[n];
+        for (int k = 0; k < n; k++) {
+            if (k > 0) {
+                nextOrder(xs, buffer, n, k);
+            }
+            diagonal[k] = buffer[0];
+        }
+        return diagonal;
+    }
+
+    /**
+     * Переводит буфер со столбца порядка k - 1 на столбец порядка k.
+     * Элементы обновляются по возрастанию i, поэтому buffer[i + 1] еще содержит старое значение.
+     */
+    private static void nextOrder(double[] xs, double[] buffer, int n, int k) {
+        for (int i = 0; i < n - k; i++) {
+            double dx = xs[i + k] - xs[i];
+            if (Math.abs(dx) < Polynomial.EPSILON) {
+                throw new IllegalArgumentException("Duplicate x value: " + xs[i]);
+            }
+            buffer[i] = (buffer[i + 1] - buffer[i]) / dx;
+        }
+    }
+
+    private static int checkedLength(double[] xs, double[] ys) {
+        Objects.requireNonNull(xs, "xs cannot be null");
+        Objects.requireNonNull(ys, "ys cannot be null");
+        if (xs.length != ys.length) {
+            throw new IllegalArgumentException("Coordinate arrays must have the same length: "
+                + xs.length + " != " + ys.length);
+        }
+        return xs.length;
+    }
+}
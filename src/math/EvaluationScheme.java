@@ -0,0 +1,39 @@
+package math;
+
+/**
+ * Схема вычисления значения полинома в одной точке.
+ *
+ * Схема Горнера - одна цепочка из n зависимых операций умножения и сложения,
+ * поэтому процессор не может выполнять их параллельно. Расщепленная схема
+ * Горнера четвертого порядка (вариант схемы Эстрина) вычисляет четыре независимые
+ * цепочки по x⁴ и объединяет их в конце:
+ * p(x) = P₀(x⁴) + x·P₁(x⁴) + x²·P₂(x⁴) + x³·P₃(x⁴),
+ * что дает примерно вчетверо меньшую задержку для полиномов высокой степени.
+ *
+ * Обе схемы обратно устойчивы. Для расщепленной схемы погрешность
+ * |p̂(x) - p(x)| ≤ γ_{2n+6}·Σ|a_i|·|x|ⁱ, где γ_k = k·u/(1 - k·u), u = 2⁻⁵³,
+ * против γ_{2n} для схемы Горнера, поэтому результаты схем отличаются не более чем на
+ * (4n + 6)·u·Σ|a_i|·|x|ⁱ.
+ */
+public enum EvaluationScheme {
+    /**
+     * Классическая схема Горнера.
+     */
+    HORNER,
+
+    /**
+     * Расщепленная схема Горнера четвертого порядка.
+     */
+    SPLIT_HORNER,
+
+    /**
+     * Автоматический выбор: расщепленная схема для степени не ниже
+     * {@link #AUTO_SPLIT_DEGREE}, схема Горнера для меньших степеней.
+     */
+    AUTO;
+
+    /**
+     * Степень, начиная с которой {@link #AUTO} выбирает расщепленную схему.
+     */
+    public static final int AUTO_SPLIT_DEGREE = 64;
+}
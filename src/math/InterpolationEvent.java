@@ -0,0 +1,37 @@
+package math;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+
+/**
+ * Общие поля событий JFR интерполяционных полиномов.
+ *
+ * Событие создается перед операцией, begin() засекает время, а {@link #commit(Polynomial, int, RebuildCause)}
+ * заполняет поля и записывает событие, только если запись JFR включена для этого типа.
+ * Без активной записи JIT удаляет создание события, поэтому затраты близки к нулю.
+ */
+@Category("Polynomial")
+abstract class InterpolationEvent extends Event {
+    @Label("Polynomial")
+    String polynomial;
+
+    @Label("Degree")
+    int degree;
+
+    @Label("Node Count")
+    int nodeCount;
+
+    @Label("Cause")
+    String cause;
+
+    final void commit(Polynomial source, int nodes, RebuildCause trigger) {
+        if (shouldCommit()) {
+            polynomial = source.getClass().getSimpleName();
+            degree = Math.max(0, nodes - 1);
+            nodeCount = nodes;
+            cause = trigger.label;
+            commit();
+        }
+    }
+}
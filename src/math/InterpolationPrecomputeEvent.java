@@ -0,0 +1,16 @@
+package math;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Событие JFR: полный пересчет за O(n²) величин, по которым вычисляется интерполянт, -
+ * барицентрических весов {@link LagrangePolynomial} или разделенных разностей
+ * {@link NewtonPolynomial}.
+ */
+@Name("math.InterpolationPrecompute")
+@Label("Interpolation Precompute")
+@Description("Barycentric weights or Newton divided differences were recomputed from scratch")
+final class InterpolationPrecomputeEvent extends InterpolationEvent {
+}
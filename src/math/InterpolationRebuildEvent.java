@@ -0,0 +1,15 @@
+package math;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Событие JFR: построение коэффициентов интерполянта в мономиальном базисе
+ * (rebuildPolynomial в {@link LagrangePolynomial} и {@link NewtonPolynomial}).
+ */
+@Name("math.InterpolationRebuild")
+@Label("Interpolation Rebuild")
+@Description("Monomial coefficients of an interpolation polynomial were rebuilt")
+final class InterpolationRebuildEvent extends InterpolationEvent {
+}
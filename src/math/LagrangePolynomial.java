@@ -1,14 +1,20 @@
 package math;
 
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
 import java.util.Locale;
 
 public class LagrangePolynomial extends Polynomial {
-    private final List<Point> points;
+    // Узлы хранятся столбцами, отсортированными по x; заполнены первые size элементов
+    private double[] xValues;
+    private double[] yValues;
+    private int size;
+    private boolean sharedColumns; // Столбцы принадлежат PointSet и копируются перед первым изменением
+    private List<Point> pointsView; // Строится по запросу getPoints(), сбрасывается при изменении узлов
     private double[] barycentricWeights;
-    private boolean needsRebuild = false;
+    private boolean needsRebuild = true; // Коэффициенты строятся лениво, при первом запросе
+    private boolean identicalY; // Все значения y равны, обновляется при изменении набора точек
 
     /**
      * Создает полином Лагранжа для интерполяции заданных точек.
@@ -17,22 +23,74 @@ public class LagrangePolynomial extends Polynomial {
      * Используется формула: L(x) = Σ(i=0 до n-1) y_i * l_i(x), 
      * где l_i(x) = Π(j=0 до n-1, j≠i) (x - x_j)/(x_i - x_j)
      * 
+     * Конструктор вычисляет только барицентрические веса, которых достаточно для
+     * {@link #evaluate(double)}. Коэффициенты в мономиальном базисе строятся при первом
+     * обращении к ним: {@link #getCoefficients()}, {@link #toString()}, арифметические
+     * операции и сравнение. См. {@link #hasMaterializedCoefficients()}.
+     * 
      * @param points точки для интерполяции
      * @throws NullPointerException если points равно null
      * @throws IllegalArgumentException если points пусто или содержит дублирующиеся значения x
      */
     public LagrangePolynomial(List<Point> points) {
         super();
+        long start = PolynomialMetrics.start();
         Objects.requireNonNull(points, "Points list cannot be null");
         if (points.isEmpty()) {
             throw new IllegalArgumentException("Points list cannot be empty");
         }
         
-        this.points = sortPointsByX(points);
-        checkForDuplicateXAfterSort(this.points);
+        List<Point> sorted = sortPointsByX(points);
+        checkForDuplicateXAfterSort(sorted);
+        
+        size = sorted.size();
+        xValues = new double[size];
+        yValues = new double[size];
+        for (int i = 0; i < size; i++) {
+            xValues[i] = sorted.get(i).getX();
+            yValues[i] = sorted.get(i).getY();
+        }
         
         computeBarycentricWeights();
-        rebuildPolynomial();
+        identicalY = hasIdenticalYValues();
+        PolynomialMetrics.constructed(this, start);
+    }
+
+    /**
+     * Создает полином Лагранжа по набору точек без копирования координат.
+     * Набор уже отсортирован и проверен на дубликаты, поэтому вычисляются
+     * только барицентрические веса.
+     * 
+     * Фабричный метод вместо перегрузки конструктора сохраняет однозначность
+     * вызова {@code new LagrangePolynomial(null)}.
+     * 
+     * @param points набор точек для интерполяции
+     * @return полином Лагранжа
+     * @throws NullPointerException если points равно null
+     * @throws IllegalArgumentException если набор пуст
+     */
+    public static LagrangePolynomial of(PointSet points) {
+        Objects.requireNonNull(points, "Point set cannot be null");
+        if (points.isEmpty()) {
+            throw new IllegalArgumentException("Point set cannot be empty");
+        }
+        return new LagrangePolynomial(points.xColumn(), points.yColumn());
+    }
+
+    /**
+     * Создает полином по отсортированным столбцам без дубликатов, принадлежащим {@link PointSet}.
+     */
+    private LagrangePolynomial(double[] xValues, double[] yValues) {
+        super();
+        long start = PolynomialMetrics.start();
+        this.xValues = xValues;
+        this.yValues = yValues;
+        this.size = xValues.length;
+        this.sharedColumns = true;
+        
+        computeBarycentricWeights();
+        identicalY = hasIdenticalYValues();
+        PolynomialMetrics.constructed(this, start);
     }
 
     /**
@@ -43,21 +101,26 @@ public class LagrangePolynomial extends Polynomial {
      * Позволяет ускорить вычисление значений полинома Лагранжа.
      */
     private void computeBarycentricWeights() {
-        int n = points.size();
+        long start = PolynomialMetrics.start();
+        InterpolationPrecomputeEvent event = new InterpolationPrecomputeEvent();
+        event.begin();
+        int n = size;
         barycentricWeights = new double[n];
         
         for (int i = 0; i < n; i++) {
             double weight = 1.0;
-            double xi = points.get(i).getX();
+            double xi = xValues[i];
             
             for (int j = 0; j < n; j++) {
                 if (i != j) {
-                    weight *= (xi - points.get(j).getX());
+                    weight *= (xi - xValues[j]);
                 }
             }
             
             barycentricWeights[i] = 1.0 / weight;
         }
+        event.commit(this, n, RebuildCause.CONSTRUCTOR); // Полный пересчет выполняется только при построении
+        PolynomialMetrics.weightsRecomputed(this, start);
     }
 
     /**
@@ -66,11 +129,11 @@ public class LagrangePolynomial extends Polynomial {
      * @return true если все точки имеют одинаковое значение y, иначе false
      */
     private boolean hasIdenticalYValues() {
-        if (points.isEmpty()) return true;
+        if (size == 0) return true;
         
-        double firstY = points.get(0).getY();
-        for (int i = 1; i < points.size(); i++) {
-            if (Math.abs(points.get(i).getY() - firstY) > EPSILON) {
+        double firstY = yValues[0];
+        for (int i = 1; i < size; i++) {
+            if (Math.abs(yValues[i] - firstY) > EPSILON) {
                 return false;
             }
         }
@@ -80,64 +143,74 @@ public class LagrangePolynomial extends Polynomial {
 
     /**
      * Перестраивает коэффициенты полинома при необходимости.
+     * 
+     * @param cause операция, которой потребовались коэффициенты (для событий JFR)
      */
-    private void rebuildPolynomial() {
-        Polynomial lagrangePoly = buildLagrangePolynomial();
-        updateCoefficients(lagrangePoly.getCoefficients());
+    private void rebuildPolynomial(RebuildCause cause) {
+        long start = PolynomialMetrics.start();
+        InterpolationRebuildEvent event = new InterpolationRebuildEvent();
+        event.begin();
+        updateCoefficients(buildLagrangeCoefficients());
         needsRebuild = false;
+        event.commit(this, size, cause);
+        PolynomialMetrics.rebuilt(this, start);
     }
 
     /**
-     * Строит интерполяционный полином Лагранжа.
+     * Строит коэффициенты интерполяционного полинома Лагранжа.
      * 
      * Основная формула: L(x) = Σ(i=0 до n-1) y_i * l_i(x)
-     * где l_i(x) - базисные полиномы Лагранжа: l_i(x) = Π(j=0 до n-1, j≠i) (x - x_j)/(x_i - x_j)
+     * где l_i(x) - базисные полиномы Лагранжа: l_i(x) = w_i * M(x) / (x - x_i),
+     * M(x) = Π(j=0 до n-1) (x - x_j), w_i - барицентрические веса.
+     * 
+     * Общий многочлен M(x) строится один раз за O(n²), числитель каждого базисного
+     * полинома получается из него схемой Горнера (синтетическим делением на x - x_i)
+     * за O(n) и сразу добавляется к результату. Итого O(n²) времени и O(n) памяти.
      * 
-     * @return Polynomial представляющий интерполяцию Лагранжа
+     * @return коэффициенты интерполяционного полинома от младшего к старшему
      */
-    private Polynomial buildLagrangePolynomial() {
-        int n = points.size();
+    private double[] buildLagrangeCoefficients() {
+        int n = size;
         
         // Оптимизация линейного случая (2 точки)
         if (n == 2) {
-            double x0 = points.get(0).getX();
-            double y0 = points.get(0).getY();
-            double x1 = points.get(1).getX();
-            double y1 = points.get(1).getY();
+            double x0 = xValues[0];
+            double y0 = yValues[0];
+            double x1 = xValues[1];
+            double y1 = yValues[1];
             
             double slope = (y1 - y0) / (x1 - x0);
-            return new Polynomial(y0 - slope * x0, slope);
+            return new double[] {y0 - slope * x0, slope};
         } 
         
         // Особый случай для одинаковых значений y (константный полином)
-        if (hasIdenticalYValues()) {
-            return new Polynomial(points.get(0).getY());
+        if (identicalY) {
+            return new double[] {yValues[0]};
         }
         
-        // Обычный расчет для всех других случаев
-        Polynomial result = new Polynomial();
+        // M(x) = Π(x - x_j), коэффициенты от младшего к старшему
+        double[] master = new double[n + 1];
+        master[0] = 1.0;
+        for (int j = 0; j < n; j++) {
+            double xj = xValues[j];
+            for (int k = j + 1; k > 0; k--) {
+                master[k] = master[k - 1] - xj * master[k];
+            }
+            master[0] = -xj * master[0];
+        }
         
+        double[] result = new double[n];
         for (int i = 0; i < n; i++) {
-            Point pi = points.get(i);
-            double yi = pi.getY();
-            
-            // Строим базисный полином Лагранжа L_i(x)
-            Polynomial basis = new Polynomial(1.0);
+            double xi = xValues[i];
+            double scale = yValues[i] * barycentricWeights[i];
+            if (scale == 0.0) continue;
             
-            for (int j = 0; j < n; j++) {
-                if (i != j) {
-                    double xj = points.get(j).getX();
-                    double xi = pi.getX();
-                    
-                    // Умножаем на (x - xj)/(xi - xj)
-                    double weight = 1.0 / (xi - xj);
-                    Polynomial term = new Polynomial(-xj * weight, weight);
-                    basis = basis.multiply(term);
-                }
+            // M(x) / (x - x_i): q_{n-1} = m_n, q_{k-1} = m_k + x_i * q_k
+            double q = 0.0;
+            for (int k = n; k > 0; k--) {
+                q = master[k] + xi * q;
+                result[k - 1] += scale * q;
             }
-            
-            // Добавляем yi * L_i(x) к результату
-            result = result.add(basis.multiply(yi));
         }
         
         return result;
@@ -155,38 +228,110 @@ public class LagrangePolynomial extends Polynomial {
      */
     @Override
     public double evaluate(double x) {
-        if (needsRebuild) {
-            rebuildPolynomial();
+        if (PolynomialMetrics.enabled) {
+            long start = System.nanoTime();
+            double value = evaluateBarycentric(x);
+            PolynomialMetrics.evaluated(this, 1, start);
+            return value;
         }
-        
+        return evaluateBarycentric(x);
+    }
+
+    private double evaluateBarycentric(double x) {
         // Особый случай для одинаковых значений y
-        if (hasIdenticalYValues()) {
-            return points.get(0).getY();
+        if (identicalY) {
+            return yValues[0];
         }
         
-        // Проверяем, является ли x одной из интерполяционных точек
-        for (Point p : points) {
-            if (Math.abs(x - p.getX()) < EPSILON) {
-                return p.getY();
-            }
-        }
-        
-        // Барицентрическая формула для эффективного вычисления
+        // Барицентрическая формула; совпадение с узлом проверяется в том же проходе
         double numerator = 0.0;
         double denominator = 0.0;
         
-        for (int i = 0; i < points.size(); i++) {
-            double xi = points.get(i).getX();
-            double yi = points.get(i).getY();
+        for (int i = 0; i < size; i++) {
+            double diff = x - xValues[i];
+            if (Math.abs(diff) < EPSILON) {
+                return yValues[i];
+            }
             
-            double temp = barycentricWeights[i] / (x - xi);
-            numerator += temp * yi;
+            double temp = barycentricWeights[i] / diff;
+            numerator += temp * yValues[i];
             denominator += temp;
         }
         
         return numerator / denominator;
     }
 
+    /**
+     * Вычисляет значения полинома в length точках по барицентрической формуле.
+     * 
+     * Точки обрабатываются блоками: внешний цикл идет по узлам интерполяции,
+     * внутренний - по точкам блока, накапливая числитель и знаменатель для каждой точки.
+     * Совпадения с узлами исправляются бинарным поиском после вычисления блока, поэтому
+     * внутренний цикл не содержит ветвлений и может быть векторизован
+     * (на JDK 17+ - явно, через jdk.incubator.vector, см. {@link Polynomial#getEvaluationBackend()}).
+     * 
+     * @param xs точки, в которых вычисляется полином
+     * @param xsOffset индекс первой точки в xs
+     * @param out массив для результатов
+     * @param outOffset индекс первого результата в out
+     * @param length количество точек
+     * @throws IndexOutOfBoundsException если диапазоны выходят за границы массивов
+     */
+    @Override
+    public void evaluate(double[] xs, int xsOffset, double[] out, int outOffset, int length) {
+        checkBatchBounds(xs, xsOffset, out, outOffset, length);
+        if (PolynomialMetrics.enabled) {
+            long start = System.nanoTime();
+            evaluateBarycentric(xs, xsOffset, out, outOffset, length);
+            PolynomialMetrics.evaluated(this, length, start);
+            return;
+        }
+        evaluateBarycentric(xs, xsOffset, out, outOffset, length);
+    }
+
+    private void evaluateBarycentric(double[] xs, int xsOffset, double[] out, int outOffset, int length) {
+        int n = size;
+        if (identicalY) {
+            Arrays.fill(out, outOffset, outOffset + length, yValues[0]);
+            return;
+        }
+        
+        int blockSize = Math.min(length, BATCH_BLOCK);
+        double[] block = new double[blockSize];
+        double[] numerator = new double[blockSize];
+        double[] denominator = new double[blockSize];
+        
+        for (int start = 0; start < length; start += BATCH_BLOCK) {
+            int count = Math.min(BATCH_BLOCK, length - start);
+            System.arraycopy(xs, xsOffset + start, block, 0, count);
+            
+            int o = outOffset + start;
+            BatchKernels.barycentric(xValues, yValues, barycentricWeights, n, block, count, out, o,
+                                     numerator, denominator);
+            
+            for (int i = 0; i < count; i++) {
+                int hit = indexOfNode(xValues, n, block[i]);
+                if (hit >= 0) {
+                    out[o + i] = yValues[hit];
+                }
+            }
+        }
+    }
+
+    /**
+     * Возвращает точки интерполяции, отсортированные по x.
+     * Список строится при первом запросе после изменения набора точек
+     * и не изменяется при последующих добавлениях и удалениях.
+     * 
+     * @return неизменяемый список точек
+     */
+    public List<Point> getPoints() {
+        if (pointsView == null) {
+            pointsView = pointsOf(xValues, yValues, size);
+        }
+        return pointsView;
+    }
+
     /**
      * Возвращает степень этого полинома, которая равна n-1 для n точек.
      * 
@@ -194,7 +339,7 @@ public class LagrangePolynomial extends Polynomial {
      */
     @Override
     public int degree() {
-        return points.size() - 1;
+        return size - 1;
     }
 
     /**
@@ -205,36 +350,56 @@ public class LagrangePolynomial extends Polynomial {
     @Override
     public List<Double> getCoefficients() {
         if (needsRebuild) {
-            rebuildPolynomial();
+            rebuildPolynomial(RebuildCause.GET_COEFFICIENTS);
         }
         
         return super.getCoefficients();
     }
 
+    /**
+     * Проверяет, построены ли коэффициенты полинома в мономиальном базисе.
+     * Вычисление значений коэффициенты не строит; после {@link #addPoint(Point)}
+     * они снова становятся недействительными.
+     * 
+     * @return true если коэффициенты актуальны и не потребуют перестроения
+     */
+    public boolean hasMaterializedCoefficients() {
+        return !needsRebuild;
+    }
+
+    @Override
+    double[] coefficientArray() {
+        if (needsRebuild) {
+            rebuildPolynomial(RebuildCause.ARITHMETIC);
+        }
+        
+        return super.coefficientArray();
+    }
+
     @Override
     public String toString() {
         if (needsRebuild) {
-            rebuildPolynomial();
+            rebuildPolynomial(RebuildCause.TO_STRING);
         }
         
         // Стандартное строковое представление с использованием коэффициентов
-        int polyDegree = points.size() - 1;
+        int polyDegree = size - 1;
         
         if (polyDegree == 0) {
-            double coeff = getCoefficients().get(0);
+            double coeff = coefficientArray()[0];
             return String.format(Locale.US, "%.2f", coeff);
         }
 
         StringBuilder sb = new StringBuilder();
-        List<Double> coeffs = getCoefficients();
+        double[] coeffs = coefficientArray();
         
         // Обрабатываем случай, когда все значения y одинаковы, получая константный полином
-        if (coeffs.size() == 1) {
-            return String.format(Locale.US, "%.2f", coeffs.get(0));
+        if (coeffs.length == 1) {
+            return String.format(Locale.US, "%.2f", coeffs[0]);
         }
         
         for (int i = polyDegree; i >= 0; i--) {
-            double coeff = i < coeffs.size() ? coeffs.get(i) : 0.0;
+            double coeff = i < coeffs.length ? coeffs[i] : 0.0;
             if (Math.abs(coeff) < EPSILON) continue;
             
             if (sb.length() > 0) {
@@ -273,18 +438,111 @@ public class LagrangePolynomial extends Polynomial {
         int insertIndex = findInsertionPoint(newPoint.getX());
         
         // Проверка на дублирующиеся значения x
-        if (insertIndex < points.size()) {
-            double existingX = points.get(insertIndex).getX();
+        if (insertIndex < size) {
+            double existingX = xValues[insertIndex];
             if (Math.abs(existingX - newPoint.getX()) < EPSILON) {
                 throw new IllegalArgumentException("Duplicate x value is not allowed: " + newPoint.getX());
             }
         }
         
         // Добавляем точку в правильную позицию для поддержания сортировки
-        points.add(insertIndex, newPoint);
-        computeBarycentricWeights();
+        ensureOwnColumns();
+        xValues = insertValue(xValues, size, insertIndex, newPoint.getX());
+        yValues = insertValue(yValues, size, insertIndex, newPoint.getY());
+        size++;
+        pointsView = null;
+        insertBarycentricWeight(insertIndex);
+        double reference = yValues[insertIndex == 0 ? 1 : 0];
+        identicalY = identicalY && Math.abs(newPoint.getY() - reference) <= EPSILON;
         needsRebuild = true;
     }
+
+    /**
+     * Удаляет точку интерполяции. Точка ищется бинарным поиском по x и удаляется,
+     * если ее координаты совпадают с заданной с точностью до EPSILON.
+     * Барицентрические веса пересчитываются за O(n).
+     * 
+     * @param point точка для удаления
+     * @return true если точка была удалена, false если точка не была найдена
+     * @throws NullPointerException если point равно null
+     * @throws IllegalStateException если удаляется единственная точка
+     */
+    public boolean removePoint(Point point) {
+        Objects.requireNonNull(point, "Point cannot be null");
+        
+        int index = findInsertionPoint(point.getX());
+        if (index >= size || Math.abs(xValues[index] - point.getX()) >= EPSILON
+                || Math.abs(yValues[index] - point.getY()) >= EPSILON) {
+            return false;
+        }
+        if (size == 1) {
+            throw new IllegalStateException("Cannot remove the only interpolation point");
+        }
+        
+        double removedX = xValues[index];
+        ensureOwnColumns();
+        removeValue(xValues, size, index);
+        removeValue(yValues, size, index);
+        size--;
+        pointsView = null;
+        removeBarycentricWeight(index, removedX);
+        identicalY = hasIdenticalYValues();
+        needsRebuild = true;
+        return true;
+    }
+
+    /**
+     * Копирует столбцы, полученные из {@link PointSet}, перед первым изменением набора точек.
+     */
+    private void ensureOwnColumns() {
+        if (sharedColumns) {
+            xValues = xValues.clone();
+            yValues = yValues.clone();
+            sharedColumns = false;
+        }
+    }
+
+    /**
+     * Обновляет барицентрические веса после вставки узла x_k в позицию k за O(n):
+     * w_i = w_i / (x_i - x_k) для старых узлов, w_k = 1 / Π(j≠k) (x_k - x_j).
+     * 
+     * @param k индекс вставленной точки
+     */
+    private void insertBarycentricWeight(int k) {
+        int n = size;
+        double xk = xValues[k];
+        double[] weights = new double[n];
+        double product = 1.0;
+        
+        for (int i = 0; i < n; i++) {
+            if (i == k) continue;
+            double diff = xValues[i] - xk;
+            weights[i] = barycentricWeights[i < k ? i : i - 1] / diff;
+            product *= -diff;
+        }
+        weights[k] = 1.0 / product;
+        
+        barycentricWeights = weights;
+    }
+
+    /**
+     * Обновляет барицентрические веса после удаления узла x_k из позиции k за O(n):
+     * w_i = w_i * (x_i - x_k).
+     * 
+     * @param k индекс удаленной точки
+     * @param xk абсцисса удаленной точки
+     */
+    private void removeBarycentricWeight(int k, double xk) {
+        int n = size;
+        double[] weights = new double[n];
+        
+        for (int i = 0; i < n; i++) {
+            int old = i < k ? i : i + 1;
+            weights[i] = barycentricWeights[old] * (xValues[i] - xk);
+        }
+        
+        barycentricWeights = weights;
+    }
     
     /**
      * Находит точку вставки для нового значения x, используя бинарный поиск.
@@ -294,11 +552,11 @@ public class LagrangePolynomial extends Polynomial {
      */
     private int findInsertionPoint(double x) {
         int low = 0;
-        int high = points.size() - 1;
+        int high = size - 1;
         
         while (low <= high) {
             int mid = (low + high) >>> 1;
-            double midX = points.get(mid).getX();
+            double midX = xValues[mid];
             
             if (Math.abs(midX - x) < EPSILON) {
                 return mid; // Найден дубликат
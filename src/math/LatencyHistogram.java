@@ -0,0 +1,135 @@
+package math;
+
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Гистограмма задержек в наносекундах с корзинами по степеням двойки.
+ *
+ * Корзина k содержит значения из [2ᵏ, 2ᵏ⁺¹), корзина 0 - также значение 0.
+ * Запись выполняется без блокировок за O(1), поэтому гистограмму можно обновлять
+ * из нескольких потоков. Перцентили вычисляются с точностью до корзины:
+ * возвращается верхняя граница корзины, то есть оценка сверху не более чем вдвое.
+ */
+public final class LatencyHistogram {
+    /**
+     * Количество корзин: покрывает весь диапазон неотрицательных long.
+     */
+    static final int BUCKETS = 64;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0L);
+
+    LatencyHistogram() {
+    }
+
+    /**
+     * Добавляет значение. Отрицательные значения (например, из-за несогласованного
+     * nanoTime на разных ядрах) считаются нулем.
+     */
+    void record(long nanos) {
+        long value = Math.max(0L, nanos);
+        buckets.incrementAndGet(bucketOf(value));
+        count.increment();
+        sum.add(value);
+        max.accumulate(value);
+    }
+
+    void reset() {
+        for (int i = 0; i < BUCKETS; i++) {
+            buckets.set(i, 0L);
+        }
+        count.reset();
+        sum.reset();
+        max.reset();
+    }
+
+    static int bucketOf(long nanos) {
+        return nanos == 0L ? 0 : 63 - Long.numberOfLeadingZeros(nanos);
+    }
+
+    /**
+     * Возвращает количество записанных значений.
+     *
+     * @return количество значений
+     */
+    public long getCount() {
+        return count.sum();
+    }
+
+    /**
+     * Возвращает среднее значение.
+     *
+     * @return среднее в наносекундах, 0 если значений нет
+     */
+    public double getMean() {
+        long n = count.sum();
+        return n == 0 ? 0.0 : (double) sum.sum() / n;
+    }
+
+    /**
+     * Возвращает наибольшее записанное значение.
+     *
+     * @return максимум в наносекундах, 0 если значений нет
+     */
+    public long getMax() {
+        return max.get();
+    }
+
+    /**
+     * Оценивает перцентиль сверху с точностью до корзины.
+     *
+     * @param quantile доля от 0 до 1, например 0.99
+     * @return верхняя граница корзины, содержащей перцентиль, в наносекундах; 0 если значений нет
+     * @throws IllegalArgumentException если доля вне [0, 1]
+     */
+    public long getPercentile(double quantile) {
+        if (!(quantile >= 0.0 && quantile <= 1.0)) {
+            throw new IllegalArgumentException("Quantile must be in [0, 1]: " + quantile);
+        }
+        long[] counts = getBucketCounts();
+        long total = 0;
+        for (long c : counts) {
+            total += c;
+        }
+        if (total == 0) {
+            return 0L;
+        }
+        long rank = Math.max(1L, (long) Math.ceil(quantile * total));
+        long seen = 0;
+        for (int k = 0; k < BUCKETS; k++) {
+            seen += counts[k];
+            if (seen >= rank) {
+                return Math.min(upperBound(k), getMax());
+            }
+        }
+        return getMax();
+    }
+
+    /**
+     * Возвращает количества значений по корзинам.
+     *
+     * @return новый массив длины 64, где элемент k - количество значений в [2ᵏ, 2ᵏ⁺¹)
+     */
+    public long[] getBucketCounts() {
+        long[] counts = new long[BUCKETS];
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i] = buckets.get(i);
+        }
+        return counts;
+    }
+
+    private static long upperBound(int bucket) {
+        return bucket >= 62 ? Long.MAX_VALUE : (1L << (bucket + 1)) - 1;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(Locale.US, "count=%d, mean=%.1f ns, p50=%d ns, p99=%d ns, max=%d ns",
+            getCount(), getMean(), getPercentile(0.5), getPercentile(0.99), getMax());
+    }
+}
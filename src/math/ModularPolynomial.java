@@ -0,0 +1,655 @@
+package math;
+
+import java.math.BigInteger;
+import java.util.*;
+
+/**
+ * Неизменяемый полином с целыми коэффициентами по модулю простого числа p:
+ * p(x) = a₀ + a₁x + a₂x² + ... + aₙxⁿ, где 0 ≤ a_i < p.
+ *
+ * В отличие от {@link Polynomial} все операции точные. Модуль должен быть
+ * простым числом меньше 2³¹, поэтому произведение двух вычетов помещается в long.
+ * Умножение выполняется через теоретико-числовое преобразование (NTT), если
+ * p - 1 делится на достаточную степень двойки, иначе - классическим алгоритмом.
+ *
+ * Точные целые коэффициенты восстанавливаются по образам полинома по нескольким
+ * модулям с помощью китайской теоремы об остатках
+ * ({@link #reconstructCoefficients(ModularPolynomial...)}), рациональные - той же
+ * теоремой с последующей рациональной реконструкцией
+ * ({@link #reconstructRationalCoefficients(ModularPolynomial...)}).
+ */
+public final class ModularPolynomial {
+    /**
+     * Простые числа вида c·2ᵏ + 1, для которых NTT работает на длинах до 2²³ и выше.
+     * Их произведение M ≈ 2¹¹⁵·⁵, поэтому по всем четырем образам восстанавливаются
+     * целые коэффициенты с |a_i| < 2¹¹⁴ (нужно |a_i| < M/2) и дроби, у которых
+     * числитель и знаменатель по модулю меньше 2⁵⁷ (нужно √(M/2)).
+     */
+    private static final long[] NTT_PRIMES = {998_244_353L, 469_762_049L, 167_772_161L, 754_974_721L};
+
+    /**
+     * Наименьшие первообразные корни для {@link #NTT_PRIMES}, чтобы не раскладывать p - 1
+     * на множители при каждом умножении.
+     */
+    private static final long[] NTT_PRIMITIVE_ROOTS = {3L, 3L, 3L, 11L};
+
+    /**
+     * Модуль по умолчанию: 998244353 = 119·2²³ + 1.
+     */
+    public static final long DEFAULT_MODULUS = NTT_PRIMES[0];
+
+    /**
+     * Ниже этой длины меньшего операнда NTT не окупается.
+     */
+    private static final int NTT_THRESHOLD = 64;
+
+    private final long modulus;
+    private final long[] coefficients; // Вычеты от a₀ до aₙ, старшие нули отброшены
+
+    /**
+     * Создает полином по модулю из целых коэффициентов.
+     * Коэффициенты указываются от младшего к старшему и приводятся по модулю,
+     * отрицательные значения допускаются.
+     *
+     * @param modulus простой модуль, 2 ≤ modulus < 2³¹
+     * @param coefficients коэффициенты [a₀, a₁, ..., aₙ]
+     * @throws IllegalArgumentException если модуль не является простым числом из допустимого диапазона
+     */
+    public ModularPolynomial(long modulus, long... coefficients) {
+        checkModulus(modulus);
+        this.modulus = modulus;
+        long[] reduced = new long[coefficients.length];
+        for (int i = 0; i < coefficients.length; i++) {
+            reduced[i] = Math.floorMod(coefficients[i], modulus);
+        }
+        this.coefficients = trimmed(reduced);
+    }
+
+    /**
+     * Создает полином из уже приведенных вычетов, забирая владение массивом.
+     */
+    private ModularPolynomial(long[] residues, long modulus) {
+        this.modulus = modulus;
+        this.coefficients = trimmed(residues);
+    }
+
+    /**
+     * Возвращает простые модули, поддерживающие NTT для больших степеней.
+     * Их удобно использовать для вычислений с последующим восстановлением по КТО.
+     *
+     * @return новый массив простых модулей
+     */
+    public static long[] nttPrimes() {
+        return NTT_PRIMES.clone();
+    }
+
+    /**
+     * Строит интерполяционный полином по модулю p, проходящий через точки (x_i, y_i).
+     * Используется схема Ньютона с разделенными разностями, сложность O(n²).
+     *
+     * Интерполянт по целым точкам в общем случае имеет рациональные коэффициенты,
+     * и его образ содержит вычеты дробей. Для их восстановления нужен
+     * {@link #reconstructRationalCoefficients(ModularPolynomial...)};
+     * {@link #reconstructCoefficients(ModularPolynomial...)} подходит, только если
+     * коэффициенты заведомо целые.
+     *
+     * @param modulus простой модуль
+     * @param xs абсциссы узлов, попарно различные по модулю p
+     * @param ys значения в узлах
+     * @return интерполяционный полином степени не выше n - 1
+     * @throws IllegalArgumentException если массивы разной длины, пусты или абсциссы совпадают по модулю
+     */
+    public static ModularPolynomial interpolate(long modulus, long[] xs, long[] ys) {
+        checkModulus(modulus);
+        Objects.requireNonNull(xs, "xs cannot be null");
+        Objects.requireNonNull(ys, "ys cannot be null");
+        if (xs.length != ys.length) {
+            throw new IllegalArgumentException("xs and ys must have the same length");
+        }
+        if (xs.length == 0) {
+            throw new IllegalArgumentException("Points list cannot be empty");
+        }
+
+        int n = xs.length;
+        long[] x = new long[n];
+        long[] d = new long[n];
+        for (int i = 0; i < n; i++) {
+            x[i] = Math.floorMod(xs[i], modulus);
+            d[i] = Math.floorMod(ys[i], modulus);
+        }
+
+        // Разделенные разности на месте: d[i] = f[x_{i-j}, ..., x_i]
+        for (int j = 1; j < n; j++) {
+            for (int i = n - 1; i >= j; i--) {
+                long dx = Math.floorMod(x[i] - x[i - j], modulus);
+                if (dx == 0) {
+                    throw new IllegalArgumentException("Duplicate x values modulo " + modulus + ": " + xs[i]);
+                }
+                d[i] = Math.floorMod(d[i] - d[i - 1], modulus) * inverse(dx, modulus) % modulus;
+            }
+        }
+
+        // Перевод из формы Ньютона в стандартную по схеме Горнера
+        long[] result = new long[n];
+        result[0] = d[n - 1];
+        for (int k = n - 2; k >= 0; k--) {
+            // result = result·(x - x_k) + d[k]
+            for (int i = n - 1 - k; i >= 1; i--) {
+                result[i] = Math.floorMod(result[i - 1] - result[i] * x[k] % modulus, modulus);
+            }
+            result[0] = Math.floorMod(d[k] - result[0] * x[k] % modulus, modulus);
+        }
+
+        return new ModularPolynomial(result, modulus);
+    }
+
+    /**
+     * Восстанавливает точные целые коэффициенты по образам одного полинома
+     * по попарно различным модулям (китайская теорема об остатках, алгоритм Гарнера).
+     *
+     * Результат приводится к симметричному диапазону (-M/2, M/2], где M - произведение модулей,
+     * поэтому отрицательные коэффициенты восстанавливаются корректно, если |a_i| < M/2.
+     * Вычеты дробей (например, у интерполянта по целым точкам) этот метод превращает
+     * в большие целые без связи с исходными коэффициентами; для них используйте
+     * {@link #reconstructRationalCoefficients(ModularPolynomial...)}.
+     *
+     * @param images образы полинома по разным простым модулям
+     * @return коэффициенты от a₀ до aₙ
+     * @throws IllegalArgumentException если образов нет или модули повторяются
+     */
+    public static BigInteger[] reconstructCoefficients(ModularPolynomial... images) {
+        BigInteger[] result = combine(images);
+        BigInteger product = productOfModuli(images);
+        BigInteger half = product.shiftRight(1);
+        for (int c = 0; c < result.length; c++) {
+            if (result[c].compareTo(half) > 0) {
+                result[c] = result[c].subtract(product);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Восстанавливает точные рациональные коэффициенты по образам одного полинома
+     * по попарно различным модулям: китайская теорема об остатках дает вычет a_i mod M,
+     * а рациональная реконструкция (расширенный алгоритм Евклида, алгоритм Вана) -
+     * единственную дробь n/d ≡ a_i (mod M) с |n|, d ≤ √(M/2).
+     *
+     * Восстановление корректно, если числители и знаменатели всех коэффициентов
+     * по модулю не превосходят √(M/2); иначе нужны дополнительные модули. Вычет дроби
+     * за этими границами может совпасть с вычетом другой, меньшей дроби, и тогда
+     * вернется она, поэтому при неизвестных границах результат стоит сверить
+     * с образом по еще одному модулю.
+     *
+     * @param images образы полинома по разным простым модулям
+     * @return пары {числитель, знаменатель} от a₀ до aₙ, несократимые, знаменатель положителен
+     * @throws IllegalArgumentException если образов нет, модули повторяются или
+     *         какой-либо вычет не соответствует ни одной дроби в этих границах
+     */
+    public static BigInteger[][] reconstructRationalCoefficients(ModularPolynomial... images) {
+        BigInteger[] residues = combine(images);
+        BigInteger product = productOfModuli(images);
+        BigInteger bound = product.subtract(BigInteger.ONE).shiftRight(1).sqrt();
+
+        BigInteger[][] result = new BigInteger[residues.length][];
+        for (int c = 0; c < residues.length; c++) {
+            result[c] = rationalReconstruction(residues[c], product, bound);
+            if (result[c] == null) {
+                throw new IllegalArgumentException("Coefficient " + c
+                    + " is not a fraction with numerator and denominator up to " + bound
+                    + "; more moduli are required");
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Объединяет образы по китайской теореме об остатках.
+     *
+     * @return вычеты коэффициентов по модулю произведения модулей, в [0, M), без старших нулей
+     */
+    private static BigInteger[] combine(ModularPolynomial[] images) {
+        Objects.requireNonNull(images, "Images cannot be null");
+        if (images.length == 0) {
+            throw new IllegalArgumentException("At least one modular image is required");
+        }
+
+        int k = images.length;
+        long[] moduli = new long[k];
+        int length = 0;
+        for (int i = 0; i < k; i++) {
+            moduli[i] = Objects.requireNonNull(images[i], "Image cannot be null").modulus;
+            for (int j = 0; j < i; j++) {
+                if (moduli[j] == moduli[i]) {
+                    throw new IllegalArgumentException("Duplicate modulus: " + moduli[i]);
+                }
+            }
+            length = Math.max(length, images[i].coefficients.length);
+        }
+
+        // inv[i][j] = m_j⁻¹ mod m_i для j < i
+        long[][] inv = new long[k][];
+        for (int i = 0; i < k; i++) {
+            inv[i] = new long[i];
+            for (int j = 0; j < i; j++) {
+                inv[i][j] = inverse(moduli[j] % moduli[i], moduli[i]);
+            }
+        }
+
+        BigInteger[] result = new BigInteger[length];
+        long[] digits = new long[k];
+        for (int c = 0; c < length; c++) {
+            // Смешанная система счисления: a = d₀ + d₁m₀ + d₂m₀m₁ + ...
+            for (int i = 0; i < k; i++) {
+                long r = images[i].coefficient(c);
+                long m = moduli[i];
+                for (int j = 0; j < i; j++) {
+                    r = Math.floorMod(r - digits[j], m) * inv[i][j] % m;
+                }
+                digits[i] = r;
+            }
+
+            BigInteger value = BigInteger.valueOf(digits[k - 1]);
+            for (int i = k - 2; i >= 0; i--) {
+                value = value.multiply(BigInteger.valueOf(moduli[i])).add(BigInteger.valueOf(digits[i]));
+            }
+            result[c] = value;
+        }
+
+        int last = length - 1;
+        while (last > 0 && result[last].signum() == 0) {
+            last--;
+        }
+        return Arrays.copyOf(result, last + 1);
+    }
+
+    private static BigInteger productOfModuli(ModularPolynomial[] images) {
+        BigInteger product = BigInteger.ONE;
+        for (ModularPolynomial image : images) {
+            product = product.multiply(BigInteger.valueOf(image.modulus));
+        }
+        return product;
+    }
+
+    /**
+     * Рациональная реконструкция: ищет дробь n/d ≡ u (mod m) с |n| ≤ bound и 0 < d ≤ bound.
+     * Расширенный алгоритм Евклида для (m, u) поддерживает r_i ≡ t_i·u (mod m) и
+     * останавливается на первом остатке r_i ≤ bound. При 2·bound² < m такая дробь единственна.
+     *
+     * @return {n, d} или null, если подходящей дроби нет
+     */
+    private static BigInteger[] rationalReconstruction(BigInteger u, BigInteger m, BigInteger bound) {
+        BigInteger r0 = m;
+        BigInteger r1 = u;
+        BigInteger t0 = BigInteger.ZERO;
+        BigInteger t1 = BigInteger.ONE;
+        while (r1.compareTo(bound) > 0) {
+            BigInteger[] qr = r0.divideAndRemainder(r1);
+            r0 = r1;
+            r1 = qr[1];
+            BigInteger t = t0.subtract(qr[0].multiply(t1));
+            t0 = t1;
+            t1 = t;
+        }
+        if (t1.abs().compareTo(bound) > 0 || !r1.gcd(t1).equals(BigInteger.ONE)) {
+            return null;
+        }
+        return t1.signum() > 0
+            ? new BigInteger[] {r1, t1}
+            : new BigInteger[] {r1.negate(), t1.negate()};
+    }
+
+    /**
+     * Возвращает модуль полинома.
+     *
+     * @return простой модуль p
+     */
+    public long getModulus() {
+        return modulus;
+    }
+
+    /**
+     * Возвращает степень полинома.
+     *
+     * @return степень полинома (0 для нулевого полинома)
+     */
+    public int degree() {
+        return coefficients.length - 1;
+    }
+
+    /**
+     * Возвращает коэффициент при xⁱ.
+     *
+     * @param i показатель степени
+     * @return вычет в диапазоне [0, p), 0 для i больше степени
+     */
+    public long coefficient(int i) {
+        if (i < 0) {
+            throw new IndexOutOfBoundsException("Negative exponent: " + i);
+        }
+        return i < coefficients.length ? coefficients[i] : 0L;
+    }
+
+    /**
+     * Возвращает коэффициенты полинома.
+     *
+     * @return новый массив вычетов от a₀ до aₙ
+     */
+    public long[] getCoefficients() {
+        return coefficients.clone();
+    }
+
+    /**
+     * Складывает два полинома по одному модулю.
+     *
+     * @param other полином для сложения
+     * @return новый полином, являющийся суммой
+     * @throws IllegalArgumentException если модули различаются
+     */
+    public ModularPolynomial add(ModularPolynomial other) {
+        checkSameModulus(other);
+        long[] result = Arrays.copyOf(coefficients, Math.max(coefficients.length, other.coefficients.length));
+        for (int i = 0; i < other.coefficients.length; i++) {
+            long s = result[i] + other.coefficients[i];
+            result[i] = s >= modulus ? s - modulus : s;
+        }
+        return new ModularPolynomial(result, modulus);
+    }
+
+    /**
+     * Вычитает полином из текущего по одному модулю.
+     *
+     * @param other полином для вычитания
+     * @return новый полином, являющийся разностью
+     * @throws IllegalArgumentException если модули различаются
+     */
+    public ModularPolynomial subtract(ModularPolynomial other) {
+        checkSameModulus(other);
+        long[] result = Arrays.copyOf(coefficients, Math.max(coefficients.length, other.coefficients.length));
+        for (int i = 0; i < other.coefficients.length; i++) {
+            long s = result[i] - other.coefficients[i];
+            result[i] = s < 0 ? s + modulus : s;
+        }
+        return new ModularPolynomial(result, modulus);
+    }
+
+    /**
+     * Умножает полином на скаляр по модулю.
+     *
+     * @param scalar целый скаляр (может быть отрицательным)
+     * @return новый полином, умноженный на скаляр
+     */
+    public ModularPolynomial multiply(long scalar) {
+        long s = Math.floorMod(scalar, modulus);
+        long[] result = new long[coefficients.length];
+        for (int i = 0; i < coefficients.length; i++) {
+            result[i] = coefficients[i] * s % modulus;
+        }
+        return new ModularPolynomial(result, modulus);
+    }
+
+    /**
+     * Умножает два полинома по одному модулю.
+     * Для больших операндов используется NTT со сложностью O(N log N),
+     * если p - 1 делится на степень двойки не меньше длины результата.
+     *
+     * @param other полином для умножения
+     * @return новый полином, являющийся произведением
+     * @throws IllegalArgumentException если модули различаются
+     */
+    public ModularPolynomial multiply(ModularPolynomial other) {
+        checkSameModulus(other);
+        long[] a = coefficients;
+        long[] b = other.coefficients;
+        int resultLength = a.length + b.length - 1;
+        int size = Integer.highestOneBit(resultLength);
+        if (size < resultLength) {
+            size <<= 1;
+        }
+
+        if (Math.min(a.length, b.length) < NTT_THRESHOLD || (modulus - 1) % size != 0) {
+            return new ModularPolynomial(schoolbook(a, b), modulus);
+        }
+        return new ModularPolynomial(ntt(a, b, size), modulus);
+    }
+
+    /**
+     * Вычисляет значение полинома в точке x по модулю по схеме Горнера.
+     *
+     * @param x точка (может быть отрицательной)
+     * @return значение p(x) mod p в диапазоне [0, p)
+     */
+    public long evaluate(long x) {
+        long xr = Math.floorMod(x, modulus);
+        long result = 0;
+        for (int i = coefficients.length - 1; i >= 0; i--) {
+            result = (result * xr + coefficients[i]) % modulus;
+        }
+        return result;
+    }
+
+    /**
+     * Сравнивает два полинома по модулю на точное равенство.
+     *
+     * @param obj объект для сравнения
+     * @return true если модули и все коэффициенты совпадают
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (!(obj instanceof ModularPolynomial)) return false;
+
+        ModularPolynomial other = (ModularPolynomial) obj;
+        return modulus == other.modulus && Arrays.equals(coefficients, other.coefficients);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Long.hashCode(modulus) + Arrays.hashCode(coefficients);
+    }
+
+    /**
+     * Возвращает строковое представление в виде aₙxⁿ + ... + a₀ (mod p).
+     *
+     * @return строковое представление полинома
+     */
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        for (int i = coefficients.length - 1; i >= 0; i--) {
+            long coeff = coefficients[i];
+            if (coeff == 0 && coefficients.length > 1) continue;
+
+            if (sb.length() > 0) {
+                sb.append(" + ");
+            }
+            if (i == 0 || coeff != 1) {
+                sb.append(coeff);
+            }
+            if (i == 1) {
+                sb.append('x');
+            } else if (i > 1) {
+                sb.append("x^").append(i);
+            }
+        }
+        return sb.append(" (mod ").append(modulus).append(')').toString();
+    }
+
+    private void checkSameModulus(ModularPolynomial other) {
+        Objects.requireNonNull(other, "Polynomial cannot be null");
+        if (other.modulus != modulus) {
+            throw new IllegalArgumentException("Moduli differ: " + modulus + " and " + other.modulus);
+        }
+    }
+
+    private long[] schoolbook(long[] a, long[] b) {
+        long[] result = new long[a.length + b.length - 1];
+        for (int i = 0; i < a.length; i++) {
+            long ai = a[i];
+            if (ai == 0) continue;
+            for (int j = 0; j < b.length; j++) {
+                result[i + j] = (result[i + j] + ai * b[j]) % modulus;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Умножение через NTT размера size (степень двойки, делящая p - 1).
+     */
+    private long[] ntt(long[] a, long[] b, int size) {
+        long[] fa = Arrays.copyOf(a, size);
+        long[] fb = Arrays.copyOf(b, size);
+        int known = nttPrimeIndex(modulus);
+        long generator = known >= 0 ? NTT_PRIMITIVE_ROOTS[known] : primitiveRoot(modulus);
+        long root = power(generator, (modulus - 1) / size, modulus);
+
+        transform(fa, root);
+        transform(fb, root);
+        for (int i = 0; i < size; i++) {
+            fa[i] = fa[i] * fb[i] % modulus;
+        }
+        transform(fa, inverse(root, modulus));
+
+        long sizeInverse = inverse(size, modulus);
+        long[] result = new long[a.length + b.length - 1];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = fa[i] * sizeInverse % modulus;
+        }
+        return result;
+    }
+
+    /**
+     * Итеративное NTT на месте: аналог БПФ Кули-Тьюки, где роль e^(2πi/N)
+     * играет первообразный корень степени N из единицы по модулю p.
+     *
+     * @param values вычеты, длина - степень двойки
+     * @param root первообразный корень степени values.length
+     */
+    private void transform(long[] values, long root) {
+        int n = values.length;
+
+        for (int i = 1, j = 0; i < n; i++) {
+            int bit = n >> 1;
+            for (; (j & bit) != 0; bit >>= 1) {
+                j ^= bit;
+            }
+            j ^= bit;
+            if (i < j) {
+                long t = values[i]; values[i] = values[j]; values[j] = t;
+            }
+        }
+
+        long[] twiddles = new long[n / 2];
+        for (int len = 2; len <= n; len <<= 1) {
+            int half = len >> 1;
+            long step = power(root, n / len, modulus);
+            twiddles[0] = 1;
+            for (int k = 1; k < half; k++) {
+                twiddles[k] = twiddles[k - 1] * step % modulus;
+            }
+            for (int start = 0; start < n; start += len) {
+                for (int k = 0; k < half; k++) {
+                    int u = start + k;
+                    int v = u + half;
+                    long t = values[v] * twiddles[k] % modulus;
+                    long x = values[u];
+                    values[u] = x + t >= modulus ? x + t - modulus : x + t;
+                    values[v] = x - t < 0 ? x - t + modulus : x - t;
+                }
+            }
+        }
+    }
+
+    private static long[] trimmed(long[] coefficients) {
+        if (coefficients.length == 0) {
+            return new long[] {0L};
+        }
+        int last = coefficients.length - 1;
+        while (last > 0 && coefficients[last] == 0) {
+            last--;
+        }
+        return last < coefficients.length - 1 ? Arrays.copyOf(coefficients, last + 1) : coefficients;
+    }
+
+    private static void checkModulus(long modulus) {
+        if (nttPrimeIndex(modulus) >= 0) {
+            return; // Простота известна, перебор делителей до √p не нужен
+        }
+        if (modulus < 2 || modulus > Integer.MAX_VALUE || !isPrime(modulus)) {
+            throw new IllegalArgumentException("Modulus must be a prime below 2^31: " + modulus);
+        }
+    }
+
+    private static int nttPrimeIndex(long modulus) {
+        for (int i = 0; i < NTT_PRIMES.length; i++) {
+            if (NTT_PRIMES[i] == modulus) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean isPrime(long n) {
+        if (n < 4) return n >= 2;
+        if (n % 2 == 0) return false;
+        for (long d = 3; d * d <= n; d += 2) {
+            if (n % d == 0) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Находит наименьший первообразный корень по простому модулю p:
+     * g является им, если g^((p-1)/q) ≠ 1 для каждого простого делителя q числа p - 1.
+     */
+    private static long primitiveRoot(long p) {
+        if (p == 2) return 1;
+        List<Long> factors = new ArrayList<>();
+        long rest = p - 1;
+        for (long d = 2; d * d <= rest; d++) {
+            if (rest % d == 0) {
+                factors.add(d);
+                while (rest % d == 0) {
+                    rest /= d;
+                }
+            }
+        }
+        if (rest > 1) {
+            factors.add(rest);
+        }
+
+        for (long g = 2; ; g++) {
+            boolean primitive = true;
+            for (long q : factors) {
+                if (power(g, (p - 1) / q, p) == 1) {
+                    primitive = false;
+                    break;
+                }
+            }
+            if (primitive) {
+                return g;
+            }
+        }
+    }
+
+    private static long power(long base, long exponent, long modulus) {
+        long result = 1;
+        base %= modulus;
+        while (exponent > 0) {
+            if ((exponent & 1) != 0) {
+                result = result * base % modulus;
+            }
+            base = base * base % modulus;
+            exponent >>= 1;
+        }
+        return result;
+    }
+
+    /**
+     * Обратный элемент по простому модулю (малая теорема Ферма).
+     */
+    private static long inverse(long value, long modulus) {
+        return power(value, modulus - 2, modulus);
+    }
+}
@@ -0,0 +1,313 @@
+package math;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Быстрое вычисление полиномов в фиксированном наборе точек x₀, ..., x_{m-1}
+ * с помощью дерева субпроизведений.
+ *
+ * При создании строится двоичное дерево: в листьях - произведения (x - x_i) для
+ * небольших групп точек, в каждом внутреннем узле - произведение многочленов потомков.
+ * Значение p(x_i) равно остатку от деления p на (x - x_i), поэтому достаточно
+ * спускаться по дереву, деля остаток родителя на многочлен каждого потомка.
+ * С быстрым делением (обращение ряда методом Ньютона и быстрое умножение) полная
+ * стоимость составляет O(M(n) log n) против O(n·m) для поочередного вычисления.
+ *
+ * Дерево и обратные ряды узлов строятся один раз и переиспользуются для всех
+ * полиномов, вычисляемых в тех же точках. Экземпляр потокобезопасен.
+ *
+ * Точность. В арифметике с плавающей точкой деление на Π(x - x_i) может быть
+ * плохо обусловлено: погрешность остатка пропорциональна росту коэффициентов частного,
+ * то есть max|[tᵏ] 1/rev(b)|·max|b_j|. Старший член ряда равен 1, поэтому рост
+ * не меньше max|b_j|; для 64 точек из [-1, 1] это уже порядка C(64, 32) ≈ 10¹⁸.
+ * Поэтому перед каждым делением на многочлен узла, в том числе с частным из одного
+ * коэффициента, рост проверяется (он вычисляется вместе с обратным рядом и кешируется),
+ * и если он больше {@value #STABLE_GROWTH}, остаток родителя передается потомкам
+ * без изменений. Если ни на один узел поддерева делить нельзя, значения во всех его
+ * точках сразу вычисляются пакетной схемой Горнера, как и в листьях.
+ * Для хорошо обусловленных наборов точек (небольшие |x_i|) стоимость близка
+ * к O(M(n) log n). Для точек с |x_i| порядка 1 неустойчивы уже листья, и вычисление
+ * сводится к {@link Polynomial#evaluate(double[], double[])} с той же точностью.
+ */
+public final class MultipointEvaluator {
+    /**
+     * Максимальное число точек в листе дерева.
+     */
+    static final int LEAF_SIZE = 64;
+
+    /**
+     * Делители не длиннее этого значения обрабатываются классическим делением.
+     */
+    private static final int DIRECT_DIVISION = 64;
+
+    /**
+     * Наибольший допустимый рост коэффициентов частного при делении на многочлен узла.
+     * Деление теряет не более четырех десятичных знаков относительно схемы Горнера.
+     */
+    static final double STABLE_GROWTH = 1e4;
+
+    private final double[] xs;
+    private final Node root;
+    private final LongAdder divisions = new LongAdder(); // Выполненные деления на многочлены узлов
+
+    /**
+     * Узел дерева субпроизведений для точек xs[from..to).
+     */
+    private static final class Node {
+        final int from;
+        final int to;
+        final double[] product; // Приведенный многочлен Π(x - x_i), коэффициенты от младшего
+        final double productMax; // max|b_j|
+        final Node left;
+        final Node right;
+        final boolean reducible; // В поддереве есть узел, на многочлен которого можно делить
+        private double[] inverse; // Проверенный префикс ряда 1/rev(product)
+        private boolean exhausted; // Следующий коэффициент ряда превышает допустимый рост
+
+        Node(int from, int to, double[] product, Node left, Node right) {
+            this.from = from;
+            this.to = to;
+            this.product = product;
+            this.left = left;
+            this.right = right;
+            double max = 0.0;
+            for (double coeff : product) {
+                max = Math.max(max, Math.abs(coeff));
+            }
+            this.productMax = max;
+            // Рост для старшего члена ряда, равного 1, - это сам max|b_j|; сравнение учитывает и NaN
+            boolean stable = max <= STABLE_GROWTH;
+            this.inverse = stable ? new double[] {1.0} : new double[0];
+            this.exhausted = !stable;
+            this.reducible = stable || (left != null && (left.reducible || right.reducible));
+        }
+
+        boolean isLeaf() {
+            return left == null;
+        }
+
+        /**
+         * Возвращает первые m коэффициентов ряда 1/rev(product), если рост частного
+         * при такой длине допустим, иначе null. Результат кешируется.
+         */
+        synchronized double[] inverse(int m) {
+            if (inverse.length < m && !exhausted) {
+                extendInverse(m);
+            }
+            return inverse.length >= m ? inverse : null;
+        }
+
+        /**
+         * Продолжает обращение ряда rev(b) = x^d·b(1/x) методом Ньютона:
+         * g ← g·(2 - rev(b)·g), точность удваивается на каждом шаге.
+         * Так как b приведенный, свободный член rev(b) равен 1.
+         * Останавливается на первом коэффициенте, нарушающем границу роста.
+         */
+        private void extendInverse(int m) {
+            int d = product.length - 1;
+            double[] reversed = new double[Math.min(d + 1, m)];
+            for (int i = 0; i < reversed.length; i++) {
+                reversed[i] = product[d - i];
+            }
+            double limit = STABLE_GROWTH / productMax;
+
+            double[] g = inverse;
+            for (int k = g.length; k < m; ) {
+                int next = Math.min(2 * k, m);
+                double[] e = truncate(PolynomialMultiplier.multiply(truncate(reversed, next), g), next);
+                for (int i = 0; i < e.length; i++) {
+                    e[i] = -e[i];
+                }
+                e[0] += 2.0;
+                g = truncate(PolynomialMultiplier.multiply(g, e), next);
+
+                for (int i = k; i < next; i++) {
+                    if (!(Math.abs(g[i]) <= limit)) {
+                        inverse = truncate(g, i);
+                        exhausted = true;
+                        return;
+                    }
+                }
+                k = next;
+            }
+            inverse = g;
+        }
+    }
+
+    /**
+     * Строит дерево субпроизведений для заданных точек.
+     * Обратные ряды узлов вычисляются при первом вычислении и переиспользуются.
+     *
+     * Ускорение есть только для точек, на многочлены узлов которых можно устойчиво делить,
+     * то есть при небольших |x_i| (например, |x_i| ≤ 0.05 для тысяч точек). Для точек
+     * с |x_i| порядка 1, в том числе равноотстоящих и чебышевских сеток на [-1, 1], ни одно
+     * деление не проходит проверку роста, и {@link #evaluate(Polynomial)} выполняет ту же
+     * пакетную схему Горнера, что и {@link Polynomial#evaluate(double[], double[])}, за O(n·m),
+     * с дополнительными затратами на построение дерева. Но и при устойчивом делении
+     * для степени 2000 в 2000 точках вычисление по дереву примерно втрое медленнее
+     * пакетной схемы Горнера: константа быстрого деления пока не окупается. Сравнение
+     * обоих способов - в MultipointEvaluationBenchmark модуля polynomial-bench.
+     *
+     * @param xs точки, в которых будут вычисляться полиномы (массив копируется)
+     * @throws NullPointerException если xs равен null
+     * @throws IllegalArgumentException если xs пуст
+     */
+    public MultipointEvaluator(double[] xs) {
+        Objects.requireNonNull(xs, "xs cannot be null");
+        if (xs.length == 0) {
+            throw new IllegalArgumentException("Points array cannot be empty");
+        }
+        this.xs = xs.clone();
+        this.root = build(0, xs.length);
+    }
+
+    /**
+     * Возвращает количество точек.
+     *
+     * @return количество точек
+     */
+    public int size() {
+        return xs.length;
+    }
+
+    /**
+     * Возвращает количество делений на многочлены узлов, выполненных всеми вычислениями;
+     * ноль означает, что все значения получены схемой Горнера.
+     */
+    long divisionCount() {
+        return divisions.sum();
+    }
+
+    /**
+     * Вычисляет полином во всех точках.
+     *
+     * @param polynomial вычисляемый полином
+     * @return новый массив значений p(x_i)
+     */
+    public double[] evaluate(Polynomial polynomial) {
+        double[] out = new double[xs.length];
+        evaluate(polynomial, out);
+        return out;
+    }
+
+    /**
+     * Вычисляет полином во всех точках и записывает значения в out.
+     *
+     * @param polynomial вычисляемый полином
+     * @param out массив для результатов длины не меньше {@link #size()}
+     * @throws IndexOutOfBoundsException если out короче числа точек
+     */
+    public void evaluate(Polynomial polynomial, double[] out) {
+        Objects.requireNonNull(polynomial, "Polynomial cannot be null");
+        Objects.requireNonNull(out, "out cannot be null");
+        Objects.checkFromIndexSize(0, xs.length, out.length);
+
+        double[] block = new double[Math.min(Polynomial.BATCH_BLOCK, xs.length)];
+        descend(root, reduce(polynomial.coefficientArray(), root), out, block);
+    }
+
+    private Node build(int from, int to) {
+        if (to - from <= LEAF_SIZE) {
+            double[] product = {1.0};
+            for (int i = from; i < to; i++) {
+                product = multiplyByLinear(product, xs[i]);
+            }
+            return new Node(from, to, product, null, null);
+        }
+        int mid = (from + to) >>> 1;
+        Node left = build(from, mid);
+        Node right = build(mid, to);
+        return new Node(from, to, PolynomialMultiplier.multiply(left.product, right.product), left, right);
+    }
+
+    private void descend(Node node, double[] r, double[] out, double[] block) {
+        if (node.isLeaf() || !node.reducible) {
+            for (int from = node.from; from < node.to; from += block.length) {
+                int size = Math.min(block.length, node.to - from);
+                System.arraycopy(xs, from, block, 0, size);
+                BatchKernels.horner(r, block, size, out, from);
+            }
+            return;
+        }
+        descend(node.left, reduce(r, node.left), out, block);
+        descend(node.right, reduce(r, node.right), out, block);
+    }
+
+    /**
+     * Приводит полином по модулю многочлена узла, если деление на него устойчиво,
+     * иначе возвращает его без изменений.
+     */
+    private double[] reduce(double[] a, Node node) {
+        double[] b = node.product;
+        int d = b.length - 1;
+        if (a.length <= d) {
+            return a;
+        }
+        int m = a.length - d; // Длина частного
+        double[] inverse = node.inverse(m);
+        if (inverse == null) {
+            return a;
+        }
+        divisions.increment();
+        if (d <= DIRECT_DIVISION || m <= DIRECT_DIVISION) {
+            return longDivisionRemainder(a, b);
+        }
+
+        // rev(q) = rev(a)·(1/rev(b)) mod x^m
+        double[] reversedA = new double[m];
+        for (int i = 0; i < m; i++) {
+            reversedA[i] = a[a.length - 1 - i];
+        }
+        double[] reversedQ = PolynomialMultiplier.multiply(reversedA, truncate(inverse, m));
+        double[] q = new double[m];
+        for (int i = 0; i < m; i++) {
+            q[i] = reversedQ[m - 1 - i];
+        }
+
+        // r = a - q·b, нужны только младшие d коэффициентов
+        double[] qb = PolynomialMultiplier.multiply(q, b);
+        double[] r = new double[d];
+        for (int i = 0; i < d; i++) {
+            r[i] = a[i] - qb[i];
+        }
+        return r;
+    }
+
+    /**
+     * Классическое деление с остатком на приведенный многочлен, O((n - d)·d).
+     */
+    private static double[] longDivisionRemainder(double[] a, double[] b) {
+        int d = b.length - 1;
+        double[] r = a.clone();
+        for (int i = r.length - 1; i >= d; i--) {
+            double q = r[i];
+            if (q == 0.0) continue;
+            int shift = i - d;
+            for (int j = 0; j < d; j++) {
+                r[shift + j] -= q * b[j];
+            }
+        }
+        double[] result = new double[d];
+        System.arraycopy(r, 0, result, 0, d);
+        return result;
+    }
+
+    private static double[] truncate(double[] a, int length) {
+        if (a.length == length) {
+            return a;
+        }
+        double[] result = new double[length];
+        System.arraycopy(a, 0, result, 0, Math.min(length, a.length));
+        return result;
+    }
+
+    private static double[] multiplyByLinear(double[] p, double root) {
+        double[] result = new double[p.length + 1];
+        for (int i = 0; i < p.length; i++) {
+            result[i + 1] += p[i];
+            result[i] -= root * p[i];
+        }
+        return result;
+    }
+}
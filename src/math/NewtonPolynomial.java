@@ -1,13 +1,20 @@
 package math;
 
 import java.util.*;
-import static java.util.stream.Collectors.toList;
 
 public class NewtonPolynomial extends Polynomial {
-    private final List<Point> points = new ArrayList<>();
+    // Узлы хранятся столбцами (по возрастанию x или в порядке добавления); заполнены элементы first..first+size-1
+    private double[] xValues = new double[0];
+    private double[] yValues = new double[0];
+    private int first; // Смещение первого узла; ненулевое только в порядке добавления после удаления первого узла
+    private int size;
+    private boolean sharedColumns; // Столбцы принадлежат PointSet и копируются перед первым изменением
+    private List<Point> pointsView; // Строится по запросу getPoints(), сбрасывается при изменении узлов
     private double[] dividedDifferences; // Хранит разделенные разности для эффективного вычисления
-    private double[] xValues; // Сохраняем x-значения для быстрого вычисления
     private boolean needsRebuild = true; // Флаг для ленивого перестроения
+    private boolean differencesCurrent = true; // Разделенные разности соответствуют узлам (коэффициенты могут быть устаревшими)
+    private boolean insertionOrder; // Узлы хранятся в порядке добавления
+    private double[] lastDiagonal = new double[0]; // f[x_{n-1-j}, ..., x_{n-1}] для j < n, только в порядке добавления
 
     /**
      * Создает пустой полином Ньютона.
@@ -15,7 +22,6 @@ public class NewtonPolynomial extends Polynomial {
     public NewtonPolynomial() {
         super();
         dividedDifferences = new double[0];
-        xValues = new double[0];
     }
 
     /**
@@ -25,21 +31,82 @@ public class NewtonPolynomial extends Polynomial {
      */
     public NewtonPolynomial(List<Point> points) {
         super();
+        long start = PolynomialMetrics.start();
         if (points != null && !points.isEmpty()) {
-            addPointsInternal(points, true);
+            addPointsInternal(points);
         } else {
             dividedDifferences = new double[0];
-            xValues = new double[0];
         }
+        PolynomialMetrics.constructed(this, start);
     }
 
     /**
-     * Возвращает копию списка точек полинома.
+     * Создает полином Ньютона по набору точек без копирования координат.
+     * Разделенные разности вычисляются при первом вычислении значения
+     * или запросе коэффициентов.
      * 
-     * @return список точек
+     * Фабричный метод вместо перегрузки конструктора сохраняет однозначность
+     * вызова {@code new NewtonPolynomial(null)}.
+     * 
+     * @param points набор точек для интерполяции
+     * @return полином Ньютона
+     * @throws NullPointerException если points равно null
+     */
+    public static NewtonPolynomial of(PointSet points) {
+        Objects.requireNonNull(points, "Point set cannot be null");
+        long start = PolynomialMetrics.start();
+        NewtonPolynomial result = new NewtonPolynomial();
+        result.xValues = points.xColumn();
+        result.yValues = points.yColumn();
+        result.size = points.size();
+        result.sharedColumns = true;
+        result.differencesCurrent = false;
+        PolynomialMetrics.constructed(result, start);
+        return result;
+    }
+
+    /**
+     * Создает пустой полином Ньютона, хранящий узлы в порядке добавления.
+     * 
+     * Форма Ньютона не требует сортировки узлов: новый узел x_n добавляет
+     * к таблице разделенных разностей одну диагональ
+     * f[x_{n-j}, ..., x_n] = (f[x_{n-j+1}, ..., x_n] - f[x_{n-j}, ..., x_{n-1}]) / (x_n - x_{n-j}),
+     * последний элемент которой - новый коэффициент Ньютона. Для этого достаточно
+     * хранить предыдущую диагональ, поэтому {@link #addPoint(Point)} выполняется
+     * за O(n) времени и O(n) памяти, а прежние коэффициенты Ньютона не меняются.
+     * Поиск дубликата x и совпадений с узлами при вычислении - линейный.
+     * 
+     * @return пустой полином Ньютона с узлами в порядке добавления
+     */
+    public static NewtonPolynomial inInsertionOrder() {
+        NewtonPolynomial result = new NewtonPolynomial();
+        result.insertionOrder = true;
+        return result;
+    }
+
+    /**
+     * Проверяет, хранит ли полином узлы в порядке добавления.
+     * 
+     * @return true для полинома, созданного {@link #inInsertionOrder()}
+     */
+    public boolean isInsertionOrder() {
+        return insertionOrder;
+    }
+
+    /**
+     * Возвращает точки полинома: отсортированные по x или,
+     * для {@link #inInsertionOrder()}, в порядке добавления.
+     * Список строится при первом запросе после изменения набора точек
+     * и не изменяется при последующих добавлениях и удалениях.
+     * 
+     * @return неизменяемый список точек
      */
     public List<Point> getPoints() {
-        return new ArrayList<>(points);
+        if (pointsView == null) {
+            pointsView = pointsOf(Arrays.copyOfRange(xValues, first, first + size),
+                Arrays.copyOfRange(yValues, first, first + size), size);
+        }
+        return pointsView;
     }
 
     /**
@@ -55,8 +122,9 @@ public class NewtonPolynomial extends Polynomial {
     *Добавление точки в полином Ньютона:
     Валидация: Проверка на null и уникальность x (с учётом EPSILON).
     Сортировка: Бинарный поиск для вставки точки в упорядоченный список.
+    Порядок добавления (inInsertionOrder()): точка добавляется в конец, таблица разностей продлевается за O(n).
     Ленивое обновление: Установка флага needsRebuild = true без немедленного перестроения.
-    Перестроение: Автоматическое обновление разделённых разностей и коэффициентов только при вызове evaluate()/getCoefficients().
+    Перестроение: Разделённые разности обновляются при вызове evaluate(), мономиальные коэффициенты - только при getCoefficients()/toString().
     Преимущества:
     Эффективность при массовом добавлении точек (минимум пересчётов).
     Гарантия порядка узлов для корректных разделённых разностей.
@@ -68,25 +136,121 @@ public class NewtonPolynomial extends Polynomial {
     }
 
     private void addPointInternal(Point point) {
-        // Эффективный поиск дублирующего x с использованием бинарного поиска для сортированного массива
-        int insertPoint = Collections.binarySearch(
-            points, 
-            point, 
-            Comparator.comparingDouble(Point::getX)
-        );
+        double x = point.getX();
+        if (insertionOrder) {
+            appendPoint(x, point.getY());
+            return;
+        }
         
+        // Бинарный поиск по отсортированному столбцу; близкий x может быть только у соседей
+        int insertPoint = Arrays.binarySearch(xValues, 0, size, x);
         if (insertPoint >= 0) {
-            throw new IllegalArgumentException("Duplicate x value: " + point.getX());
+            throw new IllegalArgumentException("Duplicate x value: " + x);
+        }
+        insertPoint = -(insertPoint + 1);
+        if ((insertPoint > 0 && Math.abs(xValues[insertPoint - 1] - x) < EPSILON)
+                || (insertPoint < size && Math.abs(xValues[insertPoint] - x) < EPSILON)) {
+            throw new IllegalArgumentException("Duplicate x value: " + x);
         }
         
-        for (Point existingPoint : points) {
-            if (Math.abs(existingPoint.getX() - point.getX()) < EPSILON) {
-                throw new IllegalArgumentException("Duplicate x value: " + point.getX());
+        // Вставка с сохранением сортировки
+        ensureOwnColumns();
+        xValues = insertValue(xValues, size, insertPoint, x);
+        yValues = insertValue(yValues, size, insertPoint, point.getY());
+        size++;
+        pointsView = null;
+        needsRebuild = true;
+        differencesCurrent = false;
+    }
+
+    /**
+     * Добавляет узел в конец и продлевает таблицу разделенных разностей
+     * на одну диагональ за O(n).
+     */
+    void appendPoint(double x, double y) {
+        checkNewNode(x, 0);
+        appendNode(x, y);
+    }
+
+    /**
+     * Удаляет самый старый узел и добавляет новый в конец, оба за O(n) - шаг
+     * скользящего окна. Абсцисса сравнивается только с остающимися узлами;
+     * при совпадении полином не меняется.
+     */
+    void replaceOldest(double x, double y) {
+        checkNewNode(x, 1);
+        removeAt(0);
+        appendNode(x, y);
+    }
+
+    /**
+     * Проверяет, что x не совпадает с узлами from..size-1 с точностью до EPSILON.
+     */
+    private void checkNewNode(double x, int from) {
+        for (int i = from; i < size; i++) {
+            if (Math.abs(xValues[first + i] - x) < EPSILON) {
+                throw new IllegalArgumentException("Duplicate x value: " + x);
             }
         }
+    }
+
+    private void appendNode(double x, double y) {
+        ensureDifferences(RebuildCause.ADD_POINT);
         
-        points.add(-(insertPoint + 1), point); // Вставка с сохранением сортировки
-        needsRebuild = true;
+        ensureOwnColumns();
+        if (first + size == xValues.length) {
+            compactColumns();
+        }
+        xValues[first + size] = x;
+        yValues[first + size] = y;
+        size++;
+        pointsView = null;
+        extendDifferences(size - 1);
+        needsRebuild = true; // Устарели только мономиальные коэффициенты
+    }
+
+    /**
+     * Сдвигает узлы в начало столбцов емкостью не меньше 2·size. Удаление первого
+     * узла только увеличивает first, поэтому сдвиг выполняется не чаще одного раза
+     * на size удалений и в среднем стоит O(1) на узел.
+     */
+    private void compactColumns() {
+        int capacity = Math.max(4, 2 * size);
+        double[] xs = xValues.length >= capacity ? xValues : new double[capacity];
+        double[] ys = yValues.length >= capacity ? yValues : new double[capacity];
+        System.arraycopy(xValues, first, xs, 0, size);
+        System.arraycopy(yValues, first, ys, 0, size);
+        xValues = xs;
+        yValues = ys;
+        first = 0;
+    }
+
+    /**
+     * Продлевает разделенные разности узлом k, если lastDiagonal и dividedDifferences
+     * построены для узлов 0..k-1. Новая диагональ записывается на место старой.
+     */
+    private void extendDifferences(int k) {
+        double xk = xValues[first + k];
+        lastDiagonal = insertValue(lastDiagonal, k, k, 0.0);
+        
+        double current = yValues[first + k]; // f[x_k]
+        for (int j = 1; j <= k; j++) {
+            double next = (current - lastDiagonal[j - 1]) / (xk - xValues[first + k - j]);
+            lastDiagonal[j - 1] = current;
+            current = next;
+        }
+        lastDiagonal[k] = current;
+        dividedDifferences = insertValue(dividedDifferences, k, k, current);
+    }
+    /**
+     * Копирует столбцы, полученные из {@link PointSet}, перед первым изменением набора точек.
+     */
+    private void ensureOwnColumns() {
+        if (sharedColumns) {
+            xValues = xValues.clone();
+            yValues = yValues.clone();
+            sharedColumns = false;
+        }
     }
 
     /**
@@ -100,15 +264,23 @@ public class NewtonPolynomial extends Polynomial {
             return;
         }
         
-        addPointsInternal(newPoints, false);
+        addPointsInternal(newPoints);
     }
     
-    private void addPointsInternal(List<Point> newPoints, boolean isConstructor) {
+    private void addPointsInternal(List<Point> newPoints) {
         Objects.requireNonNull(newPoints, "List cannot be null");
         if (newPoints.stream().anyMatch(Objects::isNull)) {
             throw new IllegalArgumentException("List cannot contain null values");
         }
         
+        // В порядке добавления каждая точка продлевает таблицу за O(n), перестроение не нужно
+        if (insertionOrder) {
+            for (Point p : newPoints) {
+                appendPoint(p.getX(), p.getY());
+            }
+            return;
+        }
+        
         // Оптимизация: сортируем новые точки перед добавлением
         List<Point> sortedNewPoints = sortPointsByX(newPoints);
         
@@ -116,232 +288,474 @@ public class NewtonPolynomial extends Polynomial {
         checkForDuplicateXAfterSort(sortedNewPoints);
         
         // Если точек у нас еще нет, просто добавляем все
-        if (points.isEmpty()) {
-            points.addAll(sortedNewPoints);
-            if (!isConstructor) {
-                needsRebuild = true;
+        if (size == 0) {
+            int n = sortedNewPoints.size();
+            xValues = new double[n];
+            yValues = new double[n];
+            for (int i = 0; i < n; i++) {
+                xValues[i] = sortedNewPoints.get(i).getX();
+                yValues[i] = sortedNewPoints.get(i).getY();
             }
-            rebuildPolynomial();
+            size = n;
+            sharedColumns = false;
+            pointsView = null;
+            differencesCurrent = false;
+            needsRebuild = true;
             return;
         }
         
-        // Иначе добавляем точки эффективно, сохраняя сортировку
+        // Иначе добавляем точки эффективно, сохраняя сортировку;
+        // разности и коэффициенты пересчитываются один раз, при следующем обращении
         for (Point p : sortedNewPoints) {
             addPointInternal(p);
         }
-        
-        // Перестраиваем полином только один раз после всех вставок
-        rebuildPolynomial();
     }
 
     /**
-     * Удаляет точку из полинома.
+     * Удаляет точку из полинома. Узел ищется по x (бинарным поиском для
+     * отсортированных узлов) и удаляется, если y совпадает с точностью до EPSILON.
      * 
      * @param point точка для удаления
      * @return true если точка была удалена, false если точка не была найдена
      * @throws NullPointerException если точка равна null
+     * @see #removePoint(double)
      */
     public boolean removePoint(Point point) {
-        boolean removed = points.remove(Objects.requireNonNull(point));
-        if (removed) {
-            needsRebuild = true;
-            rebuildPolynomial();
+        Objects.requireNonNull(point);
+        int index = nodeIndex(point.getX());
+        if (index < 0 || Math.abs(yValues[first + index] - point.getY()) >= EPSILON) {
+            return false;
+        }
+        removeAt(index);
+        return true;
+    }
+
+    /**
+     * Удаляет узел с заданной абсциссой (с точностью до EPSILON).
+     * 
+     * Поиск узла - O(log n) для отсортированных узлов и O(n) в порядке добавления.
+     * Если удаляется первый или последний узел формы Ньютона (в порядке добавления -
+     * самый старый или последний добавленный), разделенные разности пересчитываются
+     * за O(n) без перестроения таблицы:
+     * <ul>
+     *   <li>без последнего узла первые n - 1 коэффициентов Ньютона не меняются;</li>
+     *   <li>без первого узла f[x₁, ..., x_k] = f[x₀, ..., x_{k-1}] + (x_k - x₀)·f[x₀, ..., x_k].</li>
+     * </ul>
+     * Удаление из середины откладывает полный пересчет O(n²) до следующего обращения.
+     * 
+     * @param x абсцисса удаляемого узла
+     * @return true если узел был удален, false если узел не найден
+     */
+    public boolean removePoint(double x) {
+        int index = nodeIndex(x);
+        if (index < 0) {
+            return false;
+        }
+        removeAt(index);
+        return true;
+    }
+
+    /**
+     * Удаляет несколько точек за один проход. Точки, отсутствующие в полиноме
+     * (по x и y с точностью до EPSILON), пропускаются. Разделенные разности
+     * пересчитываются не более одного раза, при следующем обращении.
+     * 
+     * @param pointsToRemove точки для удаления
+     * @return количество удаленных точек
+     * @throws NullPointerException если список или один из его элементов равен null
+     */
+    public int removePoints(List<Point> pointsToRemove) {
+        Objects.requireNonNull(pointsToRemove, "List cannot be null");
+        if (pointsToRemove.size() == 1) {
+            return removePoint(pointsToRemove.get(0)) ? 1 : 0;
+        }
+        
+        boolean[] removed = new boolean[size];
+        int count = 0;
+        for (Point p : pointsToRemove) {
+            Objects.requireNonNull(p, "List cannot contain null values");
+            int index = nodeIndex(p.getX());
+            if (index >= 0 && !removed[index] && Math.abs(yValues[first + index] - p.getY()) < EPSILON) {
+                removed[index] = true;
+                count++;
+            }
+        }
+        if (count == 0) {
+            return 0;
         }
-        return removed;
+        
+        // Сжимаем столбцы за один проход с сохранением порядка узлов
+        ensureOwnColumns();
+        int target = 0;
+        for (int i = 0; i < size; i++) {
+            if (!removed[i]) {
+                xValues[target] = xValues[first + i];
+                yValues[target] = yValues[first + i];
+                target++;
+            }
+        }
+        first = 0;
+        size = target;
+        pointsView = null;
+        needsRebuild = true;
+        differencesCurrent = false;
+        return count;
     }
 
     /**
-     * Вычисляет значение полинома Ньютона в точке x.
+     * Удаляет узел с индексом index, по возможности пересчитывая разделенные разности за O(n).
+     * В порядке добавления первый узел удаляется без сдвига столбцов.
+     */
+    void removeAt(int index) {
+        if (differencesCurrent && size > 1 && (index == 0 || index == size - 1)) {
+            downdateDifferences(index);
+        } else {
+            differencesCurrent = false;
+        }
+        
+        ensureOwnColumns();
+        if (insertionOrder && index == 0) {
+            first++;
+        } else {
+            removeValue(xValues, first + size, first + index);
+            removeValue(yValues, first + size, first + index);
+        }
+        size--;
+        if (size == 0) {
+            first = 0;
+        }
+        pointsView = null;
+        needsRebuild = true;
+    }
+
+    /**
+     * Исключает первый или последний узел из актуальных разделенных разностей за O(n).
+     * Вызывается до удаления узла из столбцов.
+     */
+    private void downdateDifferences(int index) {
+        int n = size;
+        if (index == 0) {
+            // f[x₁, ..., x_k] = f[x₀, ..., x_{k-1}] + (x_k - x₀)·f[x₀, ..., x_k];
+            // последняя диагональ без x₀ - ее первые n - 1 элементов
+            double x0 = xValues[first];
+            for (int k = 1; k < n; k++) {
+                dividedDifferences[k - 1] += (xValues[first + k] - x0) * dividedDifferences[k];
+            }
+        } else if (insertionOrder) {
+            // Коэффициенты d₀..d_{n-2} не зависят от x_{n-1}; восстанавливаем предыдущую диагональ:
+            // f[x_{n-2-j}, ..., x_{n-2}] = f[x_{n-1-j}, ..., x_{n-1}] - (x_{n-1} - x_{n-2-j})·f[x_{n-2-j}, ..., x_{n-1}]
+            double last = xValues[first + n - 1];
+            for (int j = 0; j < n - 1; j++) {
+                lastDiagonal[j] -= (last - xValues[first + n - 2 - j]) * lastDiagonal[j + 1];
+            }
+        }
+    }
+
+    /**
+     * Вычисляет значение полинома Ньютона в точке x по вложенной форме Ньютона:
+     * p(x) = d₀ + (x - x₀)(d₁ + (x - x₁)(d₂ + ... + (x - xₙ₋₂)dₙ₋₁)),
+     * где d_k - разделенные разности.
+     * 
+     * Коэффициенты в мономиальном базисе не нужны и не строятся: вычисление
+     * использует только разделенные разности, O(n) на точку. Вложенная форма
+     * работает с разностями (x - x_k), поэтому для интерполянтов высокой степени
+     * она точнее схемы Горнера по мономиальным коэффициентам.
      * 
      * @param x точка, в которой вычисляется значение полинома
      * @return значение полинома в точке x
      */
     @Override
     public double evaluate(double x) {
-        if (needsRebuild) {
-            rebuildPolynomial();
+        if (PolynomialMetrics.enabled) {
+            long start = System.nanoTime();
+            double value = evaluateNested(x);
+            PolynomialMetrics.evaluated(this, 1, start);
+            return value;
         }
+        return evaluateNested(x);
+    }
+
+    private double evaluateNested(double x) {
+        ensureDifferences(RebuildCause.EVALUATE);
         
-        if (points.isEmpty()) return 0.0;
+        if (size == 0) return 0.0;
         
         // Проверка на точное совпадение с узлом интерполяции
-        for (int i = 0; i < points.size(); i++) {
-            if (Math.abs(x - xValues[i]) < EPSILON) {
-                return points.get(i).getY();
-            }
+        int hit = nodeIndex(x);
+        if (hit >= 0) {
+            return yValues[first + hit];
         }
         
-        // В остальных случаях используем базовый метод Polynomial.evaluate()
-        return super.evaluate(x);
+        double result = dividedDifferences[size - 1];
+        for (int k = size - 2; k >= 0; k--) {
+            result = result * (x - xValues[first + k]) + dividedDifferences[k];
+        }
+        return result;
+    }
+
+    /**
+     * Вычисляет значения полинома в length точках по вложенной форме Ньютона:
+     * p(x) = d₀ + (x - x₀)(d₁ + (x - x₁)(d₂ + ... + (x - xₙ₋₂)dₙ₋₁)),
+     * где d_k - разделенные разности.
+     * 
+     * Точки обрабатываются блоками: внешний цикл идет по разделенным разностям,
+     * внутренний - по точкам блока, что позволяет JIT векторизовать вычисления.
+     * Совпадения с узлами интерполяции возвращают значение узла, как и {@link #evaluate(double)}.
+     * 
+     * @param xs точки, в которых вычисляется полином
+     * @param xsOffset индекс первой точки в xs
+     * @param out массив для результатов
+     * @param outOffset индекс первого результата в out
+     * @param length количество точек
+     * @throws IndexOutOfBoundsException если диапазоны выходят за границы массивов
+     */
+    @Override
+    public void evaluate(double[] xs, int xsOffset, double[] out, int outOffset, int length) {
+        checkBatchBounds(xs, xsOffset, out, outOffset, length);
+        if (PolynomialMetrics.enabled) {
+            long start = System.nanoTime();
+            evaluateNested(xs, xsOffset, out, outOffset, length);
+            PolynomialMetrics.evaluated(this, length, start);
+            return;
+        }
+        evaluateNested(xs, xsOffset, out, outOffset, length);
+    }
+
+    private void evaluateNested(double[] xs, int xsOffset, double[] out, int outOffset, int length) {
+        ensureDifferences(RebuildCause.EVALUATE);
+        
+        int n = size;
+        if (n == 0) {
+            Arrays.fill(out, outOffset, outOffset + length, 0.0);
+            return;
+        }
+        
+        double[] block = new double[Math.min(length, BATCH_BLOCK)];
+        for (int start = 0; start < length; start += BATCH_BLOCK) {
+            int count = Math.min(BATCH_BLOCK, length - start);
+            int o = outOffset + start;
+            System.arraycopy(xs, xsOffset + start, block, 0, count);
+            
+            Arrays.fill(out, o, o + count, dividedDifferences[n - 1]);
+            for (int k = n - 2; k >= 0; k--) {
+                double xk = xValues[first + k];
+                double dk = dividedDifferences[k];
+                for (int i = 0; i < count; i++) {
+                    out[o + i] = out[o + i] * (block[i] - xk) + dk;
+                }
+            }
+            
+            for (int i = 0; i < count; i++) {
+                int hit = nodeIndex(block[i]);
+                if (hit >= 0) {
+                    out[o + i] = yValues[first + hit];
+                }
+            }
+        }
     }
     
+    /**
+     * Проверяет, построены ли коэффициенты полинома в мономиальном базисе.
+     * Вычисление значений коэффициенты не строит; их строят {@link #getCoefficients()},
+     * {@link #toString()}, арифметические операции и сравнение.
+     * 
+     * @return true если коэффициенты актуальны и не потребуют перестроения
+     */
+    public boolean hasMaterializedCoefficients() {
+        return !needsRebuild;
+    }
+
     @Override
     public List<Double> getCoefficients() {
         if (needsRebuild) {
-            rebuildPolynomial();
+            rebuildPolynomial(RebuildCause.GET_COEFFICIENTS);
         }
         return super.getCoefficients();
     }
 
-    private void rebuildPolynomial() {
-        if (points.isEmpty()) {
-            updateCoefficients(List.of(0.0));
-            dividedDifferences = new double[0];
-            xValues = new double[0];
-            needsRebuild = false;
-            return;
+    @Override
+    double[] coefficientArray() {
+        if (needsRebuild) {
+            rebuildPolynomial(RebuildCause.ARITHMETIC);
         }
+        return super.coefficientArray();
+    }
 
-        // Создаем массивы для x и y значений для быстрого доступа
-        int n = points.size();
-        xValues = new double[n];
-        double[] yValues = new double[n];
-        
-        for (int i = 0; i < n; i++) {
-            Point p = points.get(i);
-            xValues[i] = p.getX();
-            yValues[i] = p.getY();
+    /**
+     * Возвращает индекс узла, совпадающего с x с точностью до EPSILON, или -1.
+     * Для отсортированных узлов используется бинарный поиск.
+     */
+    private int nodeIndex(double x) {
+        if (!insertionOrder) {
+            return indexOfNode(xValues, size, x);
         }
+        for (int i = 0; i < size; i++) {
+            if (Math.abs(x - xValues[first + i]) < EPSILON) {
+                return i;
+            }
+        }
+        return -1;
+    }
 
-        // Вычисляем разделенные разности 
-        dividedDifferences = computeDividedDifferencesOptimized(xValues, yValues);
-        
-        // Строим полином в стандартной форме
-        buildStandardFormPolynomial();
+    /**
+     * Пересчитывает разделенные разности, если набор узлов изменился не добавлением в конец.
+     * 
+     * @param cause операция, которой потребовались разности (для событий JFR)
+     */
+    private void ensureDifferences(RebuildCause cause) {
+        if (differencesCurrent) {
+            return;
+        }
+        long start = PolynomialMetrics.start();
+        InterpolationPrecomputeEvent event = new InterpolationPrecomputeEvent();
+        event.begin();
+        if (insertionOrder) {
+            // Повторяем добавления по одному, чтобы заодно восстановить последнюю диагональ;
+            // буферы переиспользуются, если их емкости хватает
+            if (dividedDifferences.length < size) {
+                dividedDifferences = new double[size];
+            }
+            if (lastDiagonal.length < size) {
+                lastDiagonal = new double[size];
+            }
+            for (int k = 0; k < size; k++) {
+                extendDifferences(k);
+            }
+        } else {
+            // Вычисляем разделенные разности прямо по столбцам узлов
+            dividedDifferences = DividedDifferences.diagonal(xValues, yValues, size);
+        }
+        differencesCurrent = true;
+        event.commit(this, size, cause);
+        PolynomialMetrics.weightsRecomputed(this, start);
+    }
+
+    /**
+     * Пересчитывает разделенные разности заново, сбрасывая ошибки округления,
+     * накопленные пересчетами при добавлении и удалении узлов.
+     */
+    void refreshDifferences() {
+        differencesCurrent = false;
+        ensureDifferences(RebuildCause.REFRESH);
+    }
+
+    /**
+     * Строит коэффициенты в мономиальном базисе.
+     * 
+     * @param cause операция, которой потребовались коэффициенты (для событий JFR)
+     */
+    private void rebuildPolynomial(RebuildCause cause) {
+        long start = PolynomialMetrics.start();
+        InterpolationRebuildEvent event = new InterpolationRebuildEvent();
+        event.begin();
+        if (size == 0) {
+            updateCoefficients(new double[] {0.0});
+            dividedDifferences = new double[0];
+            lastDiagonal = new double[0];
+            differencesCurrent = true;
+        } else {
+            ensureDifferences(cause);
+            
+            // Строим полином в стандартной форме
+            buildStandardFormPolynomial();
+        }
         
         needsRebuild = false;
+        event.commit(this, size, cause);
+        PolynomialMetrics.rebuilt(this, start);
     }
     
-    // Эффективное построение стандартной формы без множества умножений
+    /**
+     * Переводит полином из формы Ньютона в мономиальный базис схемой Горнера
+     * над многочленами: c ← d_{n-1}, затем c ← c·(x - x_k) + d_k для k = n-2, ..., 0.
+     * Умножение на (x - x_k) выполняется на месте в одном массиве длины n,
+     * поэтому преобразование занимает O(n²) времени и O(n) памяти.
+     */
     private void buildStandardFormPolynomial() {
-        int n = points.size();
+        int n = size;
         
         // Если только одна точка, полином = константа
         if (n == 1) {
-            updateCoefficients(List.of(points.get(0).getY()));
+            updateCoefficients(new double[] {yValues[first]});
             return;
         }
         
-        // Используем схему синтетического деления для более эффективного построения
-        double[][] coeffs = new double[n][n];
-        
-        // Инициализация с коэффициентами Ньютона
-        coeffs[0][0] = dividedDifferences[0];
+        double[] coeffs = new double[n];
+        coeffs[0] = dividedDifferences[n - 1];
         
-        for (int i = 1; i < n; i++) {
-            // Копируем предыдущий ряд
-            System.arraycopy(coeffs[i-1], 0, coeffs[i], 1, i);
-            
-            // Первый коэффициент - это текущий коэффициент из разделенных разностей
-            coeffs[i][0] = coeffs[i-1][0];
+        for (int k = n - 2, degree = 0; k >= 0; k--, degree++) {
+            double xk = xValues[first + k];
             
-            // Применяем синтетическое деление для каждого члена
-            for (int j = 1; j <= i; j++) {
-                coeffs[i][j] -= xValues[i-1] * coeffs[i][j-1];
+            // coeffs ← coeffs·(x - x_k), старшие коэффициенты обновляются первыми
+            coeffs[degree + 1] = coeffs[degree];
+            for (int j = degree; j > 0; j--) {
+                coeffs[j] = coeffs[j - 1] - xk * coeffs[j];
             }
-            
-            // Добавляем текущую разделенную разность
-            coeffs[i][0] += dividedDifferences[i];
+            coeffs[0] = dividedDifferences[k] - xk * coeffs[0];
         }
         
-        // Используем коэффициенты из последней строки для обновления полинома
-        double[] result = new double[n];
-        System.arraycopy(coeffs[n-1], 0, result, 0, n);
-        
-        updateCoefficients(Arrays.stream(result).boxed().collect(toList()));
+        updateCoefficients(coeffs);
     }
 
     /**
-     * Вычисляет разделенные разности с использованием итеративного подхода без рекурсии.
-     * 
-     * Формула основана на определении разделенных разностей:
-     * f[x_i] = f(x_i)
-     * f[x_i, x_i+1, ..., x_i+k] = (f[x_i+1, ..., x_i+k] - f[x_i, ..., x_i+k-1]) / (x_i+k - x_i)
+     * Возвращает коэффициенты полинома в форме Ньютона:
+     * d_k = f[x₀, ..., x_k] для узлов в порядке {@link #getPoints()}.
      * 
-     * @param xValues массив x-координат точек
-     * @param yValues массив y-координат точек
-     * @return массив разделенных разностей
+     * @return новый массив разделенных разностей длины n
      */
-    private double[] computeDividedDifferencesOptimized(double[] xValues, double[] yValues) {
-        int n = xValues.length;
-        double[] divDiff = new double[n];
-        
-        // Копируем y-значения в массив разделенных разностей
-        System.arraycopy(yValues, 0, divDiff, 0, n);
-        
-        // Вычисляем разделенные разности (оптимизировано)
-        for (int j = 1; j < n; j++) {
-            for (int i = n - 1; i >= j; i--) {
-                divDiff[i] = (divDiff[i] - divDiff[i-1]) / (xValues[i] - xValues[i-j]);
-            }
-        }
-        
-        return divDiff;
+    public double[] getDividedDifferences() {
+        ensureDifferences(RebuildCause.DIVIDED_DIFFERENCES);
+        return Arrays.copyOf(dividedDifferences, size);
     }
 
-    // Сохраняем для использования в toString
-    private double[][] computeDividedDifferences(double[] xValues, double[] yValues) {
-        int n = xValues.length;
-        double[][] table = new double[n][n];
-
-        // Заполняем первый столбец значениями y
-        for (int i = 0; i < n; i++) {
-            table[i][0] = yValues[i];
-        }
-
-        // Вместо классического рекурсивного подхода используем формулу Лагранжа
-        // для построения таблицы разделенных разностей
-        for (int k = 1; k < n; k++) {
-            for (int i = 0; i < n - k; i++) {
-                // Создаем подмассив x-значений для текущего диапазона [i, i+k]
-                double[] subX = new double[k+1];
-                double[] subY = new double[k+1];
-                for (int idx = 0; idx <= k; idx++) {
-                    subX[idx] = xValues[i + idx];
-                    subY[idx] = yValues[i + idx];
-                }
-                
-                // Вычисляем разделенную разность через формулу Лагранжа:
-                // f[x_i, ..., x_{i+k}] = Σ (j = 0 до k) [ f(x_{i+j}) / product (l =0, l != j до k) {x_{i+j} - x_{i+l}}]
-                double sum = 0.0;
-                for (int j = 0; j <= k; j++) {
-                    double term = subY[j];
-                    double denominator = 1.0;
-                    
-                    for (int l = 0; l <= k; l++) {
-                        if (l != j) {
-                            denominator *= (subX[j] - subX[l]);
-                        }
-                    }
-                    
-                    term /= denominator;
-                    sum += term;
-                }
-                
-                // Сохраняем результат в таблице
-                table[i][k] = sum;
-            }
-        }
-        
-        return table;
+    /**
+     * Возвращает полную таблицу разделенных разностей для узлов полинома
+     * в порядке {@link #getPoints()}; см. {@link DividedDifferences#table(double[], double[])}.
+     * 
+     * @return таблица, где table[k][i] = f[x_i, ..., x_{i+k}]
+     */
+    public double[][] getDividedDifferenceTable() {
+        return DividedDifferences.table(Arrays.copyOfRange(xValues, first, first + size),
+            Arrays.copyOfRange(yValues, first, first + size));
     }
 
     @Override
     public String toString() {
         if (needsRebuild) {
-            rebuildPolynomial();
+            rebuildPolynomial(RebuildCause.TO_STRING);
         }
         
-        if (points.isEmpty()) {
+        if (size == 0) {
             return "0.00";
         }
 
         return super.toString();
     }
 
+    /**
+     * Возвращает количество узлов.
+     */
+    int nodeCount() {
+        return size;
+    }
+
+    /**
+     * Возвращает абсциссу узла с индексом index в порядке {@link #getPoints()}.
+     */
+    double nodeX(int index) {
+        return xValues[first + index];
+    }
+
+    /**
+     * Возвращает ординату узла с индексом index в порядке {@link #getPoints()}.
+     */
+    double nodeY(int index) {
+        return yValues[first + index];
+    }
+
     @Override
     public int degree() {
         // Степень полинома Ньютона равна n-1, где n - количество точек
-        return points.size() > 0 ? points.size() - 1 : 0;
+        return size > 0 ? size - 1 : 0;
     }
 }
\ No newline at end of file
@@ -0,0 +1,245 @@
+package math;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.DoubleStream;
+
+/**
+ * Неизменяемый набор точек (x, y), отсортированный по x и хранящийся
+ * двумя столбцами double[] без создания объектов {@link Point}.
+ *
+ * Набор строится из массивов координат или из потока чередующихся значений
+ * x₀, y₀, x₁, y₁, ...; сортировка выполняется по примитивным столбцам,
+ * дублирующиеся x (с точностью до EPSILON) проверяются за один проход.
+ * Интерполяционные полиномы принимают набор без копирования
+ * ({@link LagrangePolynomial#of(PointSet)}, {@link NewtonPolynomial#of(PointSet)})
+ * и копируют столбцы только при первом изменении своего набора точек.
+ */
+public final class PointSet {
+    private static final PointSet EMPTY = new PointSet(new double[0], new double[0]);
+
+    private final double[] xs;
+    private final double[] ys;
+
+    private PointSet(double[] xs, double[] ys) {
+        this.xs = xs;
+        this.ys = ys;
+    }
+
+    /**
+     * Создает набор точек из массивов координат (массивы копируются).
+     *
+     * @param xs x-координаты точек
+     * @param ys y-координаты точек, в том же порядке
+     * @return отсортированный по x набор точек
+     * @throws NullPointerException если xs или ys равен null
+     * @throws IllegalArgumentException если длины массивов различаются или x дублируются
+     */
+    public static PointSet of(double[] xs, double[] ys) {
+        Objects.requireNonNull(xs, "xs cannot be null");
+        Objects.requireNonNull(ys, "ys cannot be null");
+        if (xs.length != ys.length) {
+            throw new IllegalArgumentException("Coordinate arrays must have the same length: "
+                + xs.length + " != " + ys.length);
+        }
+        return sortedAndChecked(xs.clone(), ys.clone());
+    }
+
+    /**
+     * Создает набор точек из массива чередующихся координат x₀, y₀, x₁, y₁, ...
+     *
+     * @param pairs чередующиеся координаты точек
+     * @return отсортированный по x набор точек
+     * @throws NullPointerException если pairs равен null
+     * @throws IllegalArgumentException если длина массива нечетна или x дублируются
+     */
+    public static PointSet ofPairs(double... pairs) {
+        Objects.requireNonNull(pairs, "Pairs array cannot be null");
+        if (pairs.length % 2 != 0) {
+            throw new IllegalArgumentException("Pairs array must have even length: " + pairs.length);
+        }
+        int n = pairs.length / 2;
+        double[] xs = new double[n];
+        double[] ys = new double[n];
+        for (int i = 0; i < n; i++) {
+            xs[i] = pairs[2 * i];
+            ys[i] = pairs[2 * i + 1];
+        }
+        return sortedAndChecked(xs, ys);
+    }
+
+    /**
+     * Создает набор точек из потока чередующихся координат x₀, y₀, x₁, y₁, ...
+     * Поток читается один раз.
+     *
+     * @param pairs поток чередующихся координат
+     * @return отсортированный по x набор точек
+     * @throws NullPointerException если pairs равен null
+     * @throws IllegalArgumentException если число элементов нечетно или x дублируются
+     */
+    public static PointSet ofPairs(DoubleStream pairs) {
+        Objects.requireNonNull(pairs, "Stream cannot be null");
+        return ofPairs(pairs.toArray());
+    }
+
+    /**
+     * Возвращает пустой набор точек.
+     *
+     * @return пустой набор
+     */
+    public static PointSet empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Возвращает количество точек.
+     *
+     * @return количество точек
+     */
+    public int size() {
+        return xs.length;
+    }
+
+    /**
+     * Проверяет, пуст ли набор.
+     *
+     * @return true если в наборе нет точек
+     */
+    public boolean isEmpty() {
+        return xs.length == 0;
+    }
+
+    /**
+     * Возвращает x-координату точки с заданным индексом (в порядке возрастания x).
+     *
+     * @param index индекс точки
+     * @return x-координата
+     * @throws IndexOutOfBoundsException если индекс вне диапазона
+     */
+    public double getX(int index) {
+        return xs[Objects.checkIndex(index, xs.length)];
+    }
+
+    /**
+     * Возвращает y-координату точки с заданным индексом (в порядке возрастания x).
+     *
+     * @param index индекс точки
+     * @return y-координата
+     * @throws IndexOutOfBoundsException если индекс вне диапазона
+     */
+    public double getY(int index) {
+        return ys[Objects.checkIndex(index, ys.length)];
+    }
+
+    /**
+     * Возвращает точки набора в виде списка объектов {@link Point}.
+     *
+     * @return новый неизменяемый список точек, отсортированный по x
+     */
+    public List<Point> toList() {
+        return Polynomial.pointsOf(xs, ys, xs.length);
+    }
+
+    /**
+     * Возвращает столбец x-координат без копирования. Массив не должен изменяться.
+     */
+    double[] xColumn() {
+        return xs;
+    }
+
+    /**
+     * Возвращает столбец y-координат без копирования. Массив не должен изменяться.
+     */
+    double[] yColumn() {
+        return ys;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof PointSet)) return false;
+        PointSet other = (PointSet) o;
+        return Arrays.equals(xs, other.xs) && Arrays.equals(ys, other.ys);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Arrays.hashCode(xs) + Arrays.hashCode(ys);
+    }
+
+    @Override
+    public String toString() {
+        return toList().toString();
+    }
+
+    /**
+     * Сортирует столбцы по x (если они еще не отсортированы) и проверяет дубликаты
+     * одним проходом по соседним элементам. Массивы принадлежат методу.
+     */
+    private static PointSet sortedAndChecked(double[] xs, double[] ys) {
+        if (xs.length == 0) {
+            return EMPTY;
+        }
+        if (!isSorted(xs)) {
+            mergeSort(xs, ys);
+        }
+        for (int i = 1; i < xs.length; i++) {
+            if (Math.abs(xs[i] - xs[i - 1]) < Polynomial.EPSILON) {
+                throw new IllegalArgumentException("Duplicate x values are not allowed: " + xs[i]);
+            }
+        }
+        return new PointSet(xs, ys);
+    }
+
+    private static boolean isSorted(double[] xs) {
+        for (int i = 1; i < xs.length; i++) {
+            if (!(xs[i - 1] <= xs[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Восходящая сортировка слиянием пар столбцов по x, O(n log n).
+     * Устойчива, поэтому равные x сохраняют исходный порядок.
+     */
+    private static void mergeSort(double[] xs, double[] ys) {
+        int n = xs.length;
+        double[] srcX = xs, srcY = ys;
+        double[] dstX = new double[n], dstY = new double[n];
+
+        for (int width = 1; width < n; width *= 2) {
+            for (int lo = 0; lo < n; lo += 2 * width) {
+                int mid = Math.min(lo + width, n);
+                int hi = Math.min(lo + 2 * width, n);
+                int i = lo, j = mid, k = lo;
+                while (i < mid && j < hi) {
+                    if (Double.compare(srcX[j], srcX[i]) < 0) {
+                        dstX[k] = srcX[j];
+                        dstY[k++] = srcY[j++];
+                    } else {
+                        dstX[k] = srcX[i];
+                        dstY[k++] = srcY[i++];
+                    }
+                }
+                while (i < mid) {
+                    dstX[k] = srcX[i];
+                    dstY[k++] = srcY[i++];
+                }
+                while (j < hi) {
+                    dstX[k] = srcX[j];
+                    dstY[k++] = srcY[j++];
+                }
+            }
+            double[] t = srcX; srcX = dstX; dstX = t;
+            t = srcY; srcY = dstY; dstY = t;
+        }
+
+        if (srcX != xs) {
+            System.arraycopy(srcX, 0, xs, 0, n);
+            System.arraycopy(srcY, 0, ys, 0, n);
+        }
+    }
+}
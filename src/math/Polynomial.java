@@ -1,10 +1,14 @@
 package math;
 
+import java.nio.DoubleBuffer;
 import java.util.*;
 
 public class Polynomial {
     protected static final double EPSILON = 1e-10; // Константа для сравнения чисел с плавающей точкой
-    private List<Double> coefficients;
+    static final int BATCH_BLOCK = 256; // Размер блока точек при пакетном вычислении (помещается в L1)
+    private static final double[] ZERO = {0.0}; // Общий массив нулевого полинома, внутренние массивы не изменяются
+    private double[] coefficients; // Коэффициенты от a₀ до aₙ, старшие нули уже отброшены
+    private EvaluationScheme evaluationScheme = EvaluationScheme.AUTO;
 
     /**
      * Создает пустой полином (равный нулю).
@@ -12,7 +16,7 @@ public class Polynomial {
      * где a₀, a₁, ..., aₙ - коэффициенты полинома.
      */
     public Polynomial() {
-        coefficients = new ArrayList<>(List.of(0.0));
+        coefficients = ZERO;
     }
 
     /**
@@ -22,11 +26,20 @@ public class Polynomial {
      * @param coefficients список коэффициентов полинома
      */
     public Polynomial(List<Double> coefficients) {
-        this.coefficients = new ArrayList<>(Objects.requireNonNull(coefficients));
-        trim();
-        if (this.coefficients.isEmpty()) {
-            this.coefficients.add(0.0);
-        }
+        this.coefficients = trimmed(unbox(Objects.requireNonNull(coefficients)));
+    }
+
+    /**
+     * Создает полином поверх уже подготовленного массива, забирая владение им без копирования.
+     * Используется внутренними операциями, которые сами выделяют массив результата.
+     *
+     * @param coefficients массив коэффициентов, который больше не используется вызывающим кодом
+     * @return полином, хранящий этот массив (или его копию без старших нулей)
+     */
+    private static Polynomial wrap(double[] coefficients) {
+        Polynomial result = new Polynomial();
+        result.coefficients = trimmed(coefficients);
+        return result;
     }
 
     /**
@@ -35,11 +48,17 @@ public class Polynomial {
      * @param newCoefficients новый список коэффициентов полинома
      */
     protected void updateCoefficients(List<Double> newCoefficients) {
-        this.coefficients = new ArrayList<>(Objects.requireNonNull(newCoefficients));
-        trim();
-        if (this.coefficients.isEmpty()) {
-            this.coefficients.add(0.0);
-        }
+        this.coefficients = trimmed(unbox(Objects.requireNonNull(newCoefficients)));
+    }
+
+    /**
+     * Обновляет коэффициенты полинома из массива примитивов без промежуточного boxing.
+     * Массив копируется, поэтому вызывающий код может переиспользовать его.
+     * 
+     * @param newCoefficients новый массив коэффициентов полинома
+     */
+    protected void updateCoefficients(double[] newCoefficients) {
+        this.coefficients = trimmed(Objects.requireNonNull(newCoefficients).clone());
     }
 
     /**
@@ -50,29 +69,44 @@ public class Polynomial {
      * @param coefficients массив коэффициентов полинома
      */
     public Polynomial(double... coefficients) {
-        this.coefficients = new ArrayList<>(coefficients.length);
-        for (double coeff : coefficients) {
-            this.coefficients.add(coeff);
-        }
-        trim();
-        if (this.coefficients.isEmpty()) {
-            this.coefficients.add(0.0);
-        }
+        this.coefficients = trimmed(coefficients.clone());
     }
 
     /**
      * Удаляет старшие нулевые коэффициенты полинома.
      * Это позволяет корректно определить степень полинома и
-     * оптимизировать память.
+     * оптимизировать память. Пустой массив превращается в [0.0].
+     * 
+     * @param coefficients массив коэффициентов, которым метод может распоряжаться
+     * @return массив без старших нулей (тот же, если обрезать нечего)
      */
-    private void trim() {
-        int lastNonZeroIndex = coefficients.size() - 1;
-        while (lastNonZeroIndex > 0 && Math.abs(coefficients.get(lastNonZeroIndex)) < EPSILON) {
+    private static double[] trimmed(double[] coefficients) {
+        if (coefficients.length == 0) {
+            return new double[] {0.0};
+        }
+        int lastNonZeroIndex = coefficients.length - 1;
+        while (lastNonZeroIndex > 0 && Math.abs(coefficients[lastNonZeroIndex]) < EPSILON) {
             lastNonZeroIndex--;
         }
-        if (lastNonZeroIndex < coefficients.size() - 1) {
-            coefficients.subList(lastNonZeroIndex + 1, coefficients.size()).clear();
+        if (lastNonZeroIndex < coefficients.length - 1) {
+            return Arrays.copyOf(coefficients, lastNonZeroIndex + 1);
+        }
+        return coefficients;
+    }
+
+    /**
+     * Распаковывает список коэффициентов в массив примитивов.
+     * 
+     * @param coefficients список коэффициентов
+     * @return новый массив коэффициентов
+     */
+    private static double[] unbox(List<Double> coefficients) {
+        double[] result = new double[coefficients.size()];
+        int i = 0;
+        for (Double coeff : coefficients) {
+            result[i++] = coeff;
         }
+        return result;
     }
 
     /**
@@ -82,7 +116,7 @@ public class Polynomial {
      * @return степень полинома
      */
     public int degree() {
-        return coefficients.size() - 1;
+        return coefficients.length - 1;
     }
 
     /**
@@ -91,7 +125,37 @@ public class Polynomial {
      * @return список коэффициентов от a₀ до aₙ
      */
     public List<Double> getCoefficients() {
-        return new ArrayList<>(coefficients);
+        double[] c = coefficientArray();
+        if (PolynomialMetrics.enabled) {
+            PolynomialMetrics.coefficientListCopied(this);
+        }
+        List<Double> result = new ArrayList<>(c.length);
+        for (double coeff : c) {
+            result.add(coeff);
+        }
+        return result;
+    }
+
+    /**
+     * Возвращает представление коэффициентов только для чтения без копирования.
+     * Буфер разделяет память с полиномом, поэтому подходит для горячих циклов,
+     * где не нужна упаковка в Double.
+     * 
+     * @return буфер коэффициентов от a₀ до aₙ только для чтения
+     */
+    public DoubleBuffer getCoefficientsView() {
+        return DoubleBuffer.wrap(coefficientArray()).asReadOnlyBuffer();
+    }
+
+    /**
+     * Возвращает внутренний массив коэффициентов без копирования.
+     * Подклассы с ленивым построением коэффициентов переопределяют этот метод,
+     * чтобы перестроить полином перед чтением. Массив не должен изменяться.
+     * 
+     * @return внутренний массив коэффициентов от a₀ до aₙ
+     */
+    double[] coefficientArray() {
+        return coefficients;
     }
 
     /**
@@ -100,8 +164,8 @@ public class Polynomial {
      * @return старший коэффициент полинома
      */
     private double lastCoefficient() {
-        int deg = degree();
-        return deg >= 0 ? coefficients.get(deg) : 0.0;
+        int deg = coefficients.length - 1;
+        return deg >= 0 ? coefficients[deg] : 0.0;
     }
 
     /**
@@ -112,13 +176,14 @@ public class Polynomial {
      */
     @Override
     public String toString() {
-        if (degree() == 0) {
-            return formatCoefficient(coefficients.get(0));
+        double[] c = coefficientArray();
+        if (c.length == 1) {
+            return formatCoefficient(c[0]);
         }
 
         StringBuilder sb = new StringBuilder();
-        for (int i = degree(); i >= 0; i--) {
-            double coeff = coefficients.get(i);
+        for (int i = c.length - 1; i >= 0; i--) {
+            double coeff = c[i];
             if (Math.abs(coeff) < EPSILON) continue; // Используем погрешность вместо точного сравнения с 0
 
             // Добавляем знак перед термом (кроме первого положительного)
@@ -174,8 +239,11 @@ public class Polynomial {
         Polynomial other = (Polynomial) obj;
         if (degree() != other.degree()) return false;
         
-        for (int i = 0; i <= degree(); i++) {
-            if (Math.abs(coefficients.get(i) - other.coefficients.get(i)) > EPSILON) {
+        double[] a = coefficientArray();
+        double[] b = other.coefficientArray();
+        if (a.length != b.length) return false;
+        for (int i = 0; i < a.length; i++) {
+            if (Math.abs(a[i] - b[i]) > EPSILON) {
                 return false;
             }
         }
@@ -184,7 +252,7 @@ public class Polynomial {
 
     @Override
     public int hashCode() {
-        return Objects.hash(coefficients);
+        return Arrays.hashCode(coefficientArray());
     }
 
     /**
@@ -196,21 +264,17 @@ public class Polynomial {
      * @return новый полином, являющийся суммой
      */
     public Polynomial add(Polynomial other) {
-        int maxDegree = Math.max(degree(), other.degree());
-        double[] result = new double[maxDegree + 1];
+        double[] a = coefficientArray();
+        double[] b = other.coefficientArray();
+        double[] result = Arrays.copyOf(a, Math.max(a.length, b.length));
 
-        // Копируем коэффициенты из первого полинома
-        for (int i = 0; i <= degree(); i++) {
-            result[i] = coefficients.get(i);
-        }
-        
         // Добавляем коэффициенты из второго полинома
-        for (int i = 0; i <= other.degree(); i++) {
-            result[i] += other.coefficients.get(i);
+        for (int i = 0; i < b.length; i++) {
+            result[i] += b[i];
         }
 
-        // Создаем новый полином напрямую из массива double[]
-        return new Polynomial(result);
+        // Создаем новый полином напрямую из массива double[] без копирования
+        return wrap(result);
     }
 
     /**
@@ -222,49 +286,91 @@ public class Polynomial {
      * @return новый полином, являющийся разностью
      */
     public Polynomial subtract(Polynomial other) {
-        int maxDegree = Math.max(degree(), other.degree());
-        double[] result = new double[maxDegree + 1];
+        double[] a = coefficientArray();
+        double[] b = other.coefficientArray();
+        double[] result = Arrays.copyOf(a, Math.max(a.length, b.length));
 
-        // Копируем коэффициенты из первого полинома
-        for (int i = 0; i <= degree(); i++) {
-            result[i] = coefficients.get(i);
-        }
-        
         // Вычитаем коэффициенты из второго полинома
-        for (int i = 0; i <= other.degree(); i++) {
-            result[i] -= other.coefficients.get(i);
+        for (int i = 0; i < b.length; i++) {
+            result[i] -= b[i];
         }
 
-        return new Polynomial(result);
+        return wrap(result);
     }
 
     /**
      * Умножает два полинома.
      * Операция: p(x) * q(x) = Σ(i=0 до n) Σ(j=0 до m) a_i * b_j * x^(i+j)
-     * Оптимизировано с использованием прямого массива.
+     * 
+     * Алгоритм выбирается автоматически по длине меньшего операнда:
+     * классический O(n·m) до порога {@link #getKaratsubaThreshold()},
+     * алгоритм Карацубы O(n^1.585) до порога {@link #getFftThreshold()}
+     * и свертка через БПФ O(N log N) выше него. Результаты совпадают с точностью
+     * до ошибок округления; для БПФ абсолютная погрешность каждого коэффициента
+     * не превышает ‖p‖₂·‖q‖₂·2⁻⁵³·(3·log₂N + 5), где N - размер преобразования.
      * 
      * @param other полином для умножения
      * @return новый полином, являющийся произведением
      */
     public Polynomial multiply(Polynomial other) {
-        int n = degree();
-        int m = other.degree();
-        int resultDegree = n + m;
-        double[] result = new double[resultDegree + 1];
-
-        for (int i = 0; i <= n; i++) {
-            double a = coefficients.get(i);
-            if (Math.abs(a) < EPSILON) continue; // Пропускаем почти нулевые коэффициенты
-            
-            for (int j = 0; j <= m; j++) {
-                double b = other.coefficients.get(j);
-                if (Math.abs(b) < EPSILON) continue; // Пропускаем почти нулевые коэффициенты
-                
-                result[i + j] += a * b;
-            }
+        double[] a = coefficientArray();
+        double[] b = other.coefficientArray();
+        if (!PolynomialMultiplyEvent.isLarge(a.length, b.length)) {
+            return wrap(PolynomialMultiplier.multiply(a, b));
+        }
+
+        PolynomialMultiplyEvent event = new PolynomialMultiplyEvent();
+        event.begin();
+        PolynomialMultiplier.Algorithm algorithm = PolynomialMultiplier.select(a.length, b.length);
+        double[] result = PolynomialMultiplier.multiply(a, b, algorithm);
+        if (event.shouldCommit()) {
+            event.degree = result.length - 1;
+            event.leftDegree = a.length - 1;
+            event.rightDegree = b.length - 1;
+            event.algorithm = algorithm.label;
+            event.commit();
         }
+        return wrap(result);
+    }
+
+    /**
+     * Возвращает порог включения алгоритма Карацубы в {@link #multiply(Polynomial)}.
+     * 
+     * @return минимальная длина меньшего операнда, при превышении которой используется Карацуба
+     */
+    public static int getKaratsubaThreshold() {
+        return PolynomialMultiplier.getKaratsubaThreshold();
+    }
+
+    /**
+     * Устанавливает порог включения алгоритма Карацубы в {@link #multiply(Polynomial)}.
+     * Операнды, меньший из которых содержит не больше threshold коэффициентов,
+     * перемножаются классическим алгоритмом.
+     * 
+     * @param threshold новое значение порога
+     * @throws IllegalArgumentException если порог меньше 1
+     */
+    public static void setKaratsubaThreshold(int threshold) {
+        PolynomialMultiplier.setKaratsubaThreshold(threshold);
+    }
 
-        return new Polynomial(result);
+    /**
+     * Возвращает порог включения умножения через БПФ в {@link #multiply(Polynomial)}.
+     * 
+     * @return минимальная длина меньшего операнда, при превышении которой используется БПФ
+     */
+    public static int getFftThreshold() {
+        return PolynomialMultiplier.getFftThreshold();
+    }
+
+    /**
+     * Устанавливает порог включения умножения через БПФ в {@link #multiply(Polynomial)}.
+     * 
+     * @param threshold новое значение порога
+     * @throws IllegalArgumentException если порог меньше 1
+     */
+    public static void setFftThreshold(int threshold) {
+        PolynomialMultiplier.setFftThreshold(threshold);
     }
 
     /**
@@ -280,11 +386,12 @@ public class Polynomial {
             return new Polynomial(); // Возвращаем нулевой полином
         }
         
-        double[] result = new double[coefficients.size()];
-        for (int i = 0; i < coefficients.size(); i++) {
-            result[i] = coefficients.get(i) * scalar;
+        double[] c = coefficientArray();
+        double[] result = new double[c.length];
+        for (int i = 0; i < c.length; i++) {
+            result[i] = c[i] * scalar;
         }
-        return new Polynomial(result);
+        return wrap(result);
     }
 
     /**
@@ -301,33 +408,211 @@ public class Polynomial {
             throw new IllegalArgumentException("Division by zero");
         }
         
-        double[] result = new double[coefficients.size()];
-        for (int i = 0; i < coefficients.size(); i++) {
-            result[i] = coefficients.get(i) / scalar;
+        double[] c = coefficientArray();
+        double[] result = new double[c.length];
+        for (int i = 0; i < c.length; i++) {
+            result[i] = c[i] / scalar;
         }
-        return new Polynomial(result);
+        return wrap(result);
     }
 
     /**
      * Вычисляет значение полинома в точке x.
      * Использует схему Горнера: p(x) = a₀ + x(a₁ + x(a₂ + ... + x(aₙ₋₁ + x*aₙ)...))
+     * или ее расщепленный вариант, в зависимости от {@link #getEvaluationScheme()}.
      * Сложность: O(n), где n - степень полинома.
      * 
      * @param x точка, в которой вычисляется значение полинома
      * @return значение полинома p(x)
      */
     public double evaluate(double x) {
-        if (degree() == 0) return coefficients.get(0);
-        if (Math.abs(x) < EPSILON) return coefficients.get(0); // Оптимизация для x=0
+        if (PolynomialMetrics.enabled) {
+            long start = System.nanoTime();
+            double value = evaluateCoefficients(x);
+            PolynomialMetrics.evaluated(this, 1, start);
+            return value;
+        }
+        return evaluateCoefficients(x);
+    }
 
-        
-        double result = coefficients.get(degree());
-        for (int i = degree() - 1; i >= 0; i--) {
-            result = result * x + coefficients.get(i);
+    private double evaluateCoefficients(double x) {
+        double[] c = coefficientArray();
+        if (c.length == 1) return c[0];
+        if (Math.abs(x) < EPSILON) return c[0]; // Оптимизация для x=0
+
+        int n = c.length - 1;
+        if (evaluationScheme == EvaluationScheme.SPLIT_HORNER
+                || (evaluationScheme == EvaluationScheme.AUTO && n >= EvaluationScheme.AUTO_SPLIT_DEGREE)) {
+            return evaluateSplitHorner(c, x);
+        }
+
+        double result = c[n];
+        for (int i = n - 1; i >= 0; i--) {
+            result = result * x + c[i];
         }
         return result;
     }
 
+    /**
+     * Расщепленная схема Горнера четвертого порядка:
+     * p(x) = P₀(x⁴) + x·P₁(x⁴) + x²·P₂(x⁴) + x³·P₃(x⁴), где P_r собирает коэффициенты a_{4k+r}.
+     * Четыре цепочки независимы, поэтому выполняются процессором параллельно.
+     * 
+     * @param c коэффициенты от a₀ до aₙ
+     * @param x точка
+     * @return значение полинома p(x)
+     */
+    private static double evaluateSplitHorner(double[] c, double x) {
+        int n = c.length - 1;
+        double x2 = x * x;
+        double x4 = x2 * x2;
+
+        int base = n & ~3; // Начало старшего, возможно неполного, блока из четырех коэффициентов
+        double r0 = c[base];
+        double r1 = base + 1 <= n ? c[base + 1] : 0.0;
+        double r2 = base + 2 <= n ? c[base + 2] : 0.0;
+        double r3 = base + 3 <= n ? c[base + 3] : 0.0;
+
+        for (int i = base - 4; i >= 0; i -= 4) {
+            r0 = r0 * x4 + c[i];
+            r1 = r1 * x4 + c[i + 1];
+            r2 = r2 * x4 + c[i + 2];
+            r3 = r3 * x4 + c[i + 3];
+        }
+        return (r0 + x * r1) + x2 * (r2 + x * r3);
+    }
+
+    /**
+     * Возвращает схему вычисления значения полинома в одной точке.
+     * 
+     * @return текущая схема вычисления
+     */
+    public EvaluationScheme getEvaluationScheme() {
+        return evaluationScheme;
+    }
+
+    /**
+     * Устанавливает схему вычисления значения полинома в одной точке.
+     * По умолчанию используется {@link EvaluationScheme#AUTO}.
+     * Пакетное вычисление не зависит от схемы: оно уже распараллелено по точкам.
+     * 
+     * @param evaluationScheme новая схема вычисления
+     * @throws NullPointerException если схема равна null
+     */
+    public void setEvaluationScheme(EvaluationScheme evaluationScheme) {
+        this.evaluationScheme = Objects.requireNonNull(evaluationScheme, "Evaluation scheme cannot be null");
+    }
+
+    /**
+     * Вычисляет значения полинома во всех точках массива.
+     * Эквивалентно out[i] = evaluate(xs[i]), но без накладных расходов на каждый вызов.
+     * 
+     * @param xs точки, в которых вычисляется полином
+     * @param out массив для результатов, длина не меньше xs.length
+     * @throws IndexOutOfBoundsException если out короче xs
+     */
+    public void evaluate(double[] xs, double[] out) {
+        evaluate(xs, 0, out, 0, Objects.requireNonNull(xs, "xs cannot be null").length);
+    }
+
+    /**
+     * Вычисляет значения полинома в length точках, начиная с xs[xsOffset],
+     * и записывает их в out, начиная с out[outOffset].
+     * 
+     * Схема Горнера выполняется блоками по {@value #BATCH_BLOCK} точек: внешний цикл
+     * идет по коэффициентам, внутренний - по точкам блока. Внутренний цикл не имеет
+     * зависимостей между итерациями, поэтому JIT может его векторизовать.
+     * На JDK 17+ с модулем jdk.incubator.vector используются явные SIMD-инструкции
+     * (см. {@link #getEvaluationBackend()}); их результаты могут отличаться от
+     * {@link #evaluate(double)} в последнем бите из-за FMA.
+     * Массивы xs и out могут совпадать.
+     * 
+     * @param xs точки, в которых вычисляется полином
+     * @param xsOffset индекс первой точки в xs
+     * @param out массив для результатов
+     * @param outOffset индекс первого результата в out
+     * @param length количество точек
+     * @throws IndexOutOfBoundsException если диапазоны выходят за границы массивов
+     */
+    public void evaluate(double[] xs, int xsOffset, double[] out, int outOffset, int length) {
+        checkBatchBounds(xs, xsOffset, out, outOffset, length);
+        if (PolynomialMetrics.enabled) {
+            long start = System.nanoTime();
+            evaluateCoefficients(xs, xsOffset, out, outOffset, length);
+            PolynomialMetrics.evaluated(this, length, start);
+            return;
+        }
+        evaluateCoefficients(xs, xsOffset, out, outOffset, length);
+    }
+
+    private void evaluateCoefficients(double[] xs, int xsOffset, double[] out, int outOffset, int length) {
+        double[] c = coefficientArray();
+        double[] block = new double[Math.min(length, BATCH_BLOCK)];
+
+        for (int start = 0; start < length; start += BATCH_BLOCK) {
+            int size = Math.min(BATCH_BLOCK, length - start);
+            int o = outOffset + start;
+            System.arraycopy(xs, xsOffset + start, block, 0, size);
+
+            BatchKernels.horner(c, block, size, out, o);
+
+            // Сохраняем поведение evaluate(double) для x≈0
+            for (int i = 0; i < size; i++) {
+                if (Math.abs(block[i]) < EPSILON) {
+                    out[o + i] = c[0];
+                }
+            }
+        }
+    }
+
+    /**
+     * Возвращает имя реализации, используемой пакетным вычислением:
+     * "vector" для SIMD-ядер на jdk.incubator.vector, "scalar" для скалярных циклов.
+     * 
+     * @return имя реализации пакетного вычисления
+     */
+    public static String getEvaluationBackend() {
+        return BatchKernels.backend();
+    }
+
+    /**
+     * Проверяет аргументы пакетного вычисления.
+     * 
+     * @throws NullPointerException если xs или out равны null
+     * @throws IndexOutOfBoundsException если диапазоны выходят за границы массивов
+     */
+    protected static void checkBatchBounds(double[] xs, int xsOffset, double[] out, int outOffset, int length) {
+        Objects.requireNonNull(xs, "xs cannot be null");
+        Objects.requireNonNull(out, "out cannot be null");
+        Objects.checkFromIndexSize(xsOffset, length, xs.length);
+        Objects.checkFromIndexSize(outOffset, length, out.length);
+    }
+
+    /**
+     * Ищет узел, совпадающий с x с точностью до EPSILON, бинарным поиском.
+     * 
+     * @param sortedX отсортированные по возрастанию абсциссы узлов
+     * @param size количество используемых элементов sortedX
+     * @param x искомое значение
+     * @return индекс совпавшего узла или -1
+     */
+    static int indexOfNode(double[] sortedX, int size, double x) {
+        int low = 0;
+        int high = size - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            double midX = sortedX[mid];
+            if (Math.abs(midX - x) < EPSILON) {
+                return mid;
+            } else if (midX < x) {
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return -1;
+    }
+
     // Utility methods for polynomial subclasses
     
     /**
@@ -344,6 +629,52 @@ public class Polynomial {
         }
     }
     
+    /**
+     * Вставляет значение в столбец узлов, заполненный на size элементов,
+     * сдвигая хвост. При нехватке места емкость удваивается.
+     * 
+     * @param column столбец значений
+     * @param size количество заполненных элементов
+     * @param index позиция вставки
+     * @param value вставляемое значение
+     * @return столбец со вставленным значением (тот же массив или новый, большей емкости)
+     */
+    static double[] insertValue(double[] column, int size, int index, double value) {
+        if (size == column.length) {
+            column = Arrays.copyOf(column, Math.max(4, 2 * size));
+        }
+        System.arraycopy(column, index, column, index + 1, size - index);
+        column[index] = value;
+        return column;
+    }
+
+    /**
+     * Удаляет значение из столбца узлов, заполненного на size элементов, сдвигая хвост.
+     * 
+     * @param column столбец значений
+     * @param size количество заполненных элементов
+     * @param index позиция удаляемого значения
+     */
+    static void removeValue(double[] column, int size, int index) {
+        System.arraycopy(column, index + 1, column, index, size - index - 1);
+    }
+
+    /**
+     * Строит неизменяемый список точек по столбцам координат.
+     * 
+     * @param xs столбец x-координат
+     * @param ys столбец y-координат
+     * @param size количество точек
+     * @return неизменяемый список точек
+     */
+    static List<Point> pointsOf(double[] xs, double[] ys, int size) {
+        List<Point> result = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            result.add(new Point(xs[i], ys[i]));
+        }
+        return Collections.unmodifiableList(result);
+    }
+
     /**
      * Сортирует точки по координате x.
      * 
@@ -0,0 +1,354 @@
+package math;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.InstanceNotFoundException;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * Необязательные метрики полиномов: счетчики перестроений, пересчетов весов,
+ * копий коэффициентов списком и вычислений, а также гистограммы задержек
+ * вычисления значения и построения интерполянтов.
+ *
+ * По умолчанию метрики выключены; включаются {@link #setEnabled(boolean)},
+ * через JMX ({@link #registerMBean()}) или системным свойством
+ * {@value #ENABLED_PROPERTY}=true при запуске. Пока метрики выключены, каждая
+ * точка измерения сводится к чтению одного volatile-поля, без вызовов
+ * System.nanoTime и выделения памяти.
+ *
+ * Счетчики и гистограммы общие для всех полиномов процесса. Слушатели
+ * ({@link PolynomialMetricsListener}) получают те же события с самим полиномом,
+ * что позволяет, например, отличить ленивые перестроения больших интерполянтов.
+ * Пересчет весов - это полный пересчет барицентрических весов Лагранжа или
+ * разделенных разностей Ньютона за O(n²), в том числе ленивый при первом
+ * вычислении значения после изменения узлов. Перестроение коэффициентов в мономиальном
+ * базисе учитывается один раз, сколько бы копий коэффициентов затем ни было выдано.
+ */
+public final class PolynomialMetrics {
+    /**
+     * Системное свойство, включающее метрики при загрузке класса.
+     */
+    public static final String ENABLED_PROPERTY = "math.metrics.enabled";
+
+    /**
+     * Имя MBean в платформенном MBeanServer.
+     */
+    public static final String OBJECT_NAME = "math:type=PolynomialMetrics";
+
+    // Читается в каждой точке измерения; доступ к полю напрямую дешевле вызова метода в интерпретаторе
+    static volatile boolean enabled = Boolean.getBoolean(ENABLED_PROPERTY);
+
+    private static final LongAdder rebuilds = new LongAdder();
+    private static final LongAdder weightRecomputations = new LongAdder();
+    private static final LongAdder coefficientLists = new LongAdder();
+    private static final LongAdder evaluations = new LongAdder();
+    private static final LongAdder constructions = new LongAdder();
+    private static final LatencyHistogram evaluationLatency = new LatencyHistogram();
+    private static final LatencyHistogram constructionLatency = new LatencyHistogram();
+    private static final List<PolynomialMetricsListener> listeners = new CopyOnWriteArrayList<>();
+
+    private PolynomialMetrics() {
+    }
+
+    /**
+     * Проверяет, включены ли метрики.
+     *
+     * @return true если события учитываются
+     */
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Включает или выключает учет событий. Накопленные значения сохраняются.
+     *
+     * @param enabled true чтобы учитывать события
+     */
+    public static void setEnabled(boolean enabled) {
+        PolynomialMetrics.enabled = enabled;
+    }
+
+    /**
+     * Добавляет слушателя событий.
+     *
+     * @param listener слушатель
+     * @throws NullPointerException если listener равен null
+     */
+    public static void addListener(PolynomialMetricsListener listener) {
+        listeners.add(Objects.requireNonNull(listener, "Listener cannot be null"));
+    }
+
+    /**
+     * Удаляет слушателя событий.
+     *
+     * @param listener слушатель
+     * @return true если слушатель был зарегистрирован
+     */
+    public static boolean removeListener(PolynomialMetricsListener listener) {
+        return listeners.remove(listener);
+    }
+
+    /**
+     * Возвращает количество перестроений коэффициентов интерполянтов в мономиальном базисе.
+     *
+     * @return количество вызовов rebuildPolynomial
+     */
+    public static long getRebuildCount() {
+        return rebuilds.sum();
+    }
+
+    /**
+     * Возвращает количество полных пересчетов весов интерполянтов.
+     *
+     * @return количество пересчетов барицентрических весов и разделенных разностей
+     */
+    public static long getWeightRecomputationCount() {
+        return weightRecomputations.sum();
+    }
+
+    /**
+     * Возвращает количество копий коэффициентов, выданных списком Double.
+     * Ленивое построение самих коэффициентов учитывается в {@link #getRebuildCount()}.
+     *
+     * @return количество вызовов {@link Polynomial#getCoefficients()}
+     */
+    public static long getCoefficientListCount() {
+        return coefficientLists.sum();
+    }
+
+    /**
+     * Возвращает количество вычисленных значений (пакетное вычисление учитывает каждую точку).
+     *
+     * @return количество значений
+     */
+    public static long getEvaluationCount() {
+        return evaluations.sum();
+    }
+
+    /**
+     * Возвращает количество построенных интерполянтов.
+     *
+     * @return количество построений
+     */
+    public static long getConstructionCount() {
+        return constructions.sum();
+    }
+
+    /**
+     * Возвращает гистограмму задержек {@link Polynomial#evaluate(double)}.
+     * Пакетные вычисления в гистограмму не попадают.
+     *
+     * @return гистограмма задержек вычисления в одной точке
+     */
+    public static LatencyHistogram getEvaluationLatency() {
+        return evaluationLatency;
+    }
+
+    /**
+     * Возвращает гистограмму задержек построения интерполянтов.
+     *
+     * @return гистограмма задержек конструкторов и фабричных методов of
+     */
+    public static LatencyHistogram getConstructionLatency() {
+        return constructionLatency;
+    }
+
+    /**
+     * Обнуляет счетчики и гистограммы. Слушатели сохраняются.
+     */
+    public static void reset() {
+        rebuilds.reset();
+        weightRecomputations.reset();
+        coefficientLists.reset();
+        evaluations.reset();
+        constructions.reset();
+        evaluationLatency.reset();
+        constructionLatency.reset();
+    }
+
+    /**
+     * Регистрирует MBean {@value #OBJECT_NAME} в платформенном MBeanServer.
+     * Повторная регистрация ничего не делает.
+     *
+     * @throws IllegalStateException если MBeanServer отклонил регистрацию
+     */
+    public static void registerMBean() {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            server.registerMBean(new MXBean(), new ObjectName(OBJECT_NAME));
+        } catch (InstanceAlreadyExistsException e) {
+            // Уже зарегистрирован
+        } catch (JMException e) {
+            throw new IllegalStateException("Cannot register " + OBJECT_NAME, e);
+        }
+    }
+
+    /**
+     * Удаляет MBean {@value #OBJECT_NAME}, если он зарегистрирован.
+     */
+    public static void unregisterMBean() {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            server.unregisterMBean(new ObjectName(OBJECT_NAME));
+        } catch (InstanceNotFoundException e) {
+            // Не зарегистрирован
+        } catch (JMException e) {
+            throw new IllegalStateException("Cannot unregister " + OBJECT_NAME, e);
+        }
+    }
+
+    // Точки измерения. Вызываются только при enabled == true или с меткой времени из start().
+
+    /**
+     * Метка start() при выключенных метриках. Начало отсчета System.nanoTime произвольно,
+     * и 0 - допустимое время; Long.MIN_VALUE отстоит от любого реального значения
+     * примерно на 292 года и не встречается.
+     */
+    static final long DISABLED = Long.MIN_VALUE;
+
+    /**
+     * Возвращает метку начала измерения или {@link #DISABLED}, если метрики выключены.
+     */
+    static long start() {
+        return enabled ? System.nanoTime() : DISABLED;
+    }
+
+    static void rebuilt(Polynomial polynomial, long start) {
+        if (start == DISABLED) return;
+        long nanos = System.nanoTime() - start;
+        rebuilds.increment();
+        for (PolynomialMetricsListener listener : listeners) {
+            listener.onRebuild(polynomial, nanos);
+        }
+    }
+
+    static void weightsRecomputed(Polynomial polynomial, long start) {
+        if (start == DISABLED) return;
+        long nanos = System.nanoTime() - start;
+        weightRecomputations.increment();
+        for (PolynomialMetricsListener listener : listeners) {
+            listener.onWeightRecomputation(polynomial, nanos);
+        }
+    }
+
+    static void coefficientListCopied(Polynomial polynomial) {
+        coefficientLists.increment();
+        for (PolynomialMetricsListener listener : listeners) {
+            listener.onCoefficientList(polynomial);
+        }
+    }
+
+    static void evaluated(Polynomial polynomial, int points, long start) {
+        if (start == DISABLED) return;
+        long nanos = System.nanoTime() - start;
+        evaluations.add(points);
+        if (points == 1) {
+            evaluationLatency.record(nanos);
+        }
+        for (PolynomialMetricsListener listener : listeners) {
+            listener.onEvaluation(polynomial, points, nanos);
+        }
+    }
+
+    static void constructed(Polynomial polynomial, long start) {
+        if (start == DISABLED) return;
+        long nanos = System.nanoTime() - start;
+        constructions.increment();
+        constructionLatency.record(nanos);
+        for (PolynomialMetricsListener listener : listeners) {
+            listener.onConstruction(polynomial, nanos);
+        }
+    }
+
+    /**
+     * Реализация MBean поверх статических счетчиков.
+     */
+    private static final class MXBean implements PolynomialMetricsMXBean {
+        @Override
+        public boolean isEnabled() {
+            return PolynomialMetrics.isEnabled();
+        }
+
+        @Override
+        public void setEnabled(boolean enabled) {
+            PolynomialMetrics.setEnabled(enabled);
+        }
+
+        @Override
+        public long getRebuildCount() {
+            return PolynomialMetrics.getRebuildCount();
+        }
+
+        @Override
+        public long getWeightRecomputationCount() {
+            return PolynomialMetrics.getWeightRecomputationCount();
+        }
+
+        @Override
+        public long getCoefficientListCount() {
+            return PolynomialMetrics.getCoefficientListCount();
+        }
+
+        @Override
+        public long getEvaluationCount() {
+            return PolynomialMetrics.getEvaluationCount();
+        }
+
+        @Override
+        public long getConstructionCount() {
+            return PolynomialMetrics.getConstructionCount();
+        }
+
+        @Override
+        public double getEvaluationLatencyMeanNanos() {
+            return evaluationLatency.getMean();
+        }
+
+        @Override
+        public long getEvaluationLatencyP50Nanos() {
+            return evaluationLatency.getPercentile(0.5);
+        }
+
+        @Override
+        public long getEvaluationLatencyP99Nanos() {
+            return evaluationLatency.getPercentile(0.99);
+        }
+
+        @Override
+        public long getEvaluationLatencyMaxNanos() {
+            return evaluationLatency.getMax();
+        }
+
+        @Override
+        public double getConstructionLatencyMeanNanos() {
+            return constructionLatency.getMean();
+        }
+
+        @Override
+        public long getConstructionLatencyP50Nanos() {
+            return constructionLatency.getPercentile(0.5);
+        }
+
+        @Override
+        public long getConstructionLatencyP99Nanos() {
+            return constructionLatency.getPercentile(0.99);
+        }
+
+        @Override
+        public long getConstructionLatencyMaxNanos() {
+            return constructionLatency.getMax();
+        }
+
+        @Override
+        public void reset() {
+            PolynomialMetrics.reset();
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package math;
+
+/**
+ * Получатель событий {@link PolynomialMetrics}.
+ *
+ * Методы вызываются синхронно в потоке, выполнившем операцию, и только пока
+ * метрики включены, поэтому должны быть быстрыми и не бросать исключений.
+ * Все методы по умолчанию пустые: достаточно переопределить нужные.
+ */
+public interface PolynomialMetricsListener {
+    /**
+     * Коэффициенты интерполяционного полинома перестроены в мономиальном базисе
+     * (rebuildPolynomial в {@link LagrangePolynomial} и {@link NewtonPolynomial}).
+     *
+     * @param polynomial перестроенный полином
+     * @param nanos длительность перестроения
+     */
+    default void onRebuild(Polynomial polynomial, long nanos) {
+    }
+
+    /**
+     * Полностью пересчитаны веса интерполянта: барицентрические веса Лагранжа
+     * или разделенные разности Ньютона, O(n²).
+     *
+     * @param polynomial полином
+     * @param nanos длительность пересчета
+     */
+    default void onWeightRecomputation(Polynomial polynomial, long nanos) {
+    }
+
+    /**
+     * Коэффициенты скопированы в список объектов Double ({@link Polynomial#getCoefficients()}).
+     * Если их пришлось перед этим построить, {@link #onRebuild(Polynomial, long)} вызывается раньше.
+     *
+     * @param polynomial полином
+     */
+    default void onCoefficientList(Polynomial polynomial) {
+    }
+
+    /**
+     * Вычислено значение полинома.
+     *
+     * @param polynomial полином
+     * @param points количество точек: 1 для {@link Polynomial#evaluate(double)}, длина пакета для пакетного вычисления
+     * @param nanos длительность вычисления
+     */
+    default void onEvaluation(Polynomial polynomial, int points, long nanos) {
+    }
+
+    /**
+     * Построен интерполяционный полином (конструктор или фабричный метод of).
+     *
+     * @param polynomial построенный полином
+     * @param nanos длительность построения
+     */
+    default void onConstruction(Polynomial polynomial, long nanos) {
+    }
+}
@@ -0,0 +1,43 @@
+package math;
+
+/**
+ * JMX-интерфейс {@link PolynomialMetrics}, регистрируется под именем
+ * {@value PolynomialMetrics#OBJECT_NAME}. Задержки - в наносекундах,
+ * перцентили оцениваются сверху с точностью до степени двойки.
+ */
+public interface PolynomialMetricsMXBean {
+    boolean isEnabled();
+
+    void setEnabled(boolean enabled);
+
+    long getRebuildCount();
+
+    long getWeightRecomputationCount();
+
+    long getCoefficientListCount();
+
+    long getEvaluationCount();
+
+    long getConstructionCount();
+
+    double getEvaluationLatencyMeanNanos();
+
+    long getEvaluationLatencyP50Nanos();
+
+    long getEvaluationLatencyP99Nanos();
+
+    long getEvaluationLatencyMaxNanos();
+
+    double getConstructionLatencyMeanNanos();
+
+    long getConstructionLatencyP50Nanos();
+
+    long getConstructionLatencyP99Nanos();
+
+    long getConstructionLatencyMaxNanos();
+
+    /**
+     * Обнуляет счетчики и гистограммы.
+     */
+    void reset();
+}
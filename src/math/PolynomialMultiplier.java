@@ -0,0 +1,353 @@
+package math;
+
+/**
+ * Ядро умножения полиномов, представленных массивами коэффициентов [a₀, a₁, ..., aₙ].
+ *
+ * Алгоритм выбирается автоматически по длине меньшего операнда:
+ * <ul>
+ *   <li>до порога Карацубы - классический алгоритм O(n·m);</li>
+ *   <li>до порога БПФ - алгоритм Карацубы O(n^log₂3) ≈ O(n^1.585);</li>
+ *   <li>выше порога БПФ - свертка через быстрое преобразование Фурье O(N log N).</li>
+ * </ul>
+ * Пороги можно изменить через {@link Polynomial#setKaratsubaThreshold(int)}
+ * и {@link Polynomial#setFftThreshold(int)}.
+ *
+ * Оценка погрешности БПФ-свертки. Классический алгоритм и Карацуба дают
+ * для каждого коэффициента ошибку порядка u·n·Σ|a_i||b_j|, где u = 2⁻⁵³.
+ * Свертка через БПФ размера N дает нормовую оценку
+ * |ĉ_k - c_k| ≤ ‖a‖₂·‖b‖₂·u·(3·log₂N + 5)
+ * для каждого k. Ошибка абсолютная, а не относительная: коэффициенты,
+ * много меньшие ‖a‖₂·‖b‖₂, теряют относительную точность. Поэтому БПФ
+ * включается только для степеней порядка тысяч, где прочие алгоритмы слишком медленны.
+ */
+final class PolynomialMultiplier {
+    /**
+     * Порог по умолчанию: при длине меньшего операнда не больше этого значения
+     * используется классическое умножение.
+     */
+    static final int DEFAULT_KARATSUBA_THRESHOLD = 32;
+
+    /**
+     * Порог по умолчанию: при длине меньшего операнда больше этого значения
+     * используется умножение через БПФ.
+     */
+    static final int DEFAULT_FFT_THRESHOLD = 1024;
+
+    /**
+     * Алгоритм умножения; название записывается в события JFR.
+     */
+    enum Algorithm {
+        /** Классическое умножение O(n·m). */
+        SCHOOLBOOK("schoolbook"),
+        /** Карацуба для операндов сопоставимой длины. */
+        KARATSUBA("karatsuba"),
+        /** Карацуба по блокам длинного операнда, если он хотя бы вдвое длиннее. */
+        UNBALANCED_KARATSUBA("unbalanced-karatsuba"),
+        /** Свертка через БПФ. */
+        FFT("fft");
+
+        final String label;
+
+        Algorithm(String label) {
+            this.label = label;
+        }
+    }
+
+    private static volatile int karatsubaThreshold = DEFAULT_KARATSUBA_THRESHOLD;
+    private static volatile int fftThreshold = DEFAULT_FFT_THRESHOLD;
+
+    private PolynomialMultiplier() {
+    }
+
+    static int getKaratsubaThreshold() {
+        return karatsubaThreshold;
+    }
+
+    static void setKaratsubaThreshold(int threshold) {
+        if (threshold < 1) {
+            throw new IllegalArgumentException("Karatsuba threshold must be positive: " + threshold);
+        }
+        karatsubaThreshold = threshold;
+    }
+
+    static int getFftThreshold() {
+        return fftThreshold;
+    }
+
+    static void setFftThreshold(int threshold) {
+        if (threshold < 1) {
+            throw new IllegalArgumentException("FFT threshold must be positive: " + threshold);
+        }
+        fftThreshold = threshold;
+    }
+
+    /**
+     * Перемножает два полинома, выбирая алгоритм по размеру операндов.
+     *
+     * @param a коэффициенты первого полинома (не пустой массив)
+     * @param b коэффициенты второго полинома (не пустой массив)
+     * @return новый массив коэффициентов произведения длины a.length + b.length - 1
+     */
+    static double[] multiply(double[] a, double[] b) {
+        return multiply(a, b, select(a.length, b.length));
+    }
+
+    /**
+     * Выбирает алгоритм по длинам операндов и текущим порогам. Пороги читаются
+     * один раз, поэтому выбор согласован, даже если их меняют параллельно.
+     */
+    static Algorithm select(int aLength, int bLength) {
+        int longer = Math.max(aLength, bLength);
+        int shorter = Math.min(aLength, bLength);
+        if (shorter <= karatsubaThreshold) {
+            return Algorithm.SCHOOLBOOK;
+        }
+        if (shorter > fftThreshold) {
+            return Algorithm.FFT;
+        }
+        return longer >= 2 * shorter ? Algorithm.UNBALANCED_KARATSUBA : Algorithm.KARATSUBA;
+    }
+
+    /**
+     * Перемножает два полинома выбранным алгоритмом верхнего уровня;
+     * рекурсивные умножения выбирают алгоритм заново.
+     *
+     * @param a коэффициенты первого полинома (не пустой массив)
+     * @param b коэффициенты второго полинома (не пустой массив)
+     * @param algorithm результат {@link #select(int, int)} для этих операндов
+     * @return новый массив коэффициентов произведения длины a.length + b.length - 1
+     */
+    static double[] multiply(double[] a, double[] b, Algorithm algorithm) {
+        if (a.length < b.length) {
+            double[] tmp = a;
+            a = b;
+            b = tmp;
+        }
+        switch (algorithm) {
+            case SCHOOLBOOK:
+                return schoolbook(a, b);
+            case FFT:
+                return fft(a, b);
+            case UNBALANCED_KARATSUBA:
+                return unbalanced(a, b);
+            default:
+                return karatsuba(a, b);
+        }
+    }
+
+    /**
+     * Классическое умножение: Σ(i=0 до n) Σ(j=0 до m) a_i * b_j * x^(i+j).
+     * Почти нулевые коэффициенты пропускаются.
+     */
+    static double[] schoolbook(double[] a, double[] b) {
+        double[] result = new double[a.length + b.length - 1];
+
+        for (int i = 0; i < a.length; i++) {
+            double ai = a[i];
+            if (Math.abs(ai) < Polynomial.EPSILON) continue; // Пропускаем почти нулевые коэффициенты
+
+            for (int j = 0; j < b.length; j++) {
+                double bj = b[j];
+                if (Math.abs(bj) < Polynomial.EPSILON) continue; // Пропускаем почти нулевые коэффициенты
+
+                result[i + j] += ai * bj;
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Умножение при сильно различающихся длинах (a.length ≥ 2·b.length):
+     * длинный операнд режется на блоки длины b.length, каждый блок
+     * умножается на b как сбалансированная пара.
+     */
+    private static double[] unbalanced(double[] a, double[] b) {
+        int m = b.length;
+        double[] result = new double[a.length + m - 1];
+
+        for (int offset = 0; offset < a.length; offset += m) {
+            int len = Math.min(m, a.length - offset);
+            double[] block = new double[len];
+            System.arraycopy(a, offset, block, 0, len);
+
+            double[] partial = multiply(block, b);
+            for (int i = 0; i < partial.length; i++) {
+                result[offset + i] += partial[i];
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Алгоритм Карацубы для операндов сопоставимой длины (b.length ≤ a.length < 2·b.length).
+     *
+     * Операнды делятся пополам: a = a₀ + a₁xʰ, b = b₀ + b₁xʰ, тогда
+     * a·b = z₀ + (z₁ - z₀ - z₂)xʰ + z₂x²ʰ, где z₀ = a₀b₀, z₂ = a₁b₁, z₁ = (a₀+a₁)(b₀+b₁).
+     * Три рекурсивных умножения вместо четырех.
+     */
+    private static double[] karatsuba(double[] a, double[] b) {
+        int n = a.length;
+        int m = b.length;
+        int h = (n + 1) / 2;
+        double[] result = new double[n + m - 1];
+
+        double[] a0 = slice(a, 0, h);
+        double[] a1 = slice(a, h, n);
+        double[] b0 = slice(b, 0, Math.min(h, m));
+
+        if (m <= h) {
+            // Старшей половины у b нет: a·b = a₀b + a₁b·xʰ
+            addInto(result, multiply(a0, b0), 0);
+            addInto(result, multiply(a1, b0), h);
+            return result;
+        }
+
+        double[] b1 = slice(b, h, m);
+        double[] z0 = multiply(a0, b0);
+        double[] z2 = multiply(a1, b1);
+        double[] z1 = multiply(sum(a0, a1), sum(b0, b1));
+
+        addInto(result, z0, 0);
+        addInto(result, z2, 2 * h);
+        for (int i = 0; i < z0.length; i++) {
+            z1[i] -= z0[i];
+        }
+        for (int i = 0; i < z2.length; i++) {
+            z1[i] -= z2[i];
+        }
+        // Старшие элементы z₁ после вычитаний равны нулю, их длина может выходить за результат
+        int len = Math.min(z1.length, result.length - h);
+        for (int i = 0; i < len; i++) {
+            result[h + i] += z1[i];
+        }
+
+        return result;
+    }
+
+    /**
+     * Умножение через быстрое преобразование Фурье.
+     *
+     * Оба вещественных операнда упаковываются в один комплексный вектор z = a + i·b,
+     * поэтому прямое преобразование выполняется один раз. Спектры операндов
+     * восстанавливаются из симметрии: A_k = (Z_k + conj(Z_{N-k}))/2,
+     * B_k = (Z_k - conj(Z_{N-k}))/(2i). Затем C = A·B и обратное преобразование.
+     * Оценка погрешности приведена в описании класса.
+     */
+    static double[] fft(double[] a, double[] b) {
+        int resultLength = a.length + b.length - 1;
+        int size = Integer.highestOneBit(resultLength);
+        if (size < resultLength) {
+            size <<= 1;
+        }
+
+        double[] re = new double[size];
+        double[] im = new double[size];
+        System.arraycopy(a, 0, re, 0, a.length);
+        System.arraycopy(b, 0, im, 0, b.length);
+
+        double[] cos = new double[size / 2];
+        double[] sin = new double[size / 2];
+        for (int k = 0; k < size / 2; k++) {
+            // Прямое вычисление каждого угла точнее рекуррентного поворота
+            double angle = 2 * Math.PI * k / size;
+            cos[k] = Math.cos(angle);
+            sin[k] = Math.sin(angle);
+        }
+
+        transform(re, im, cos, sin, false);
+
+        double[] productRe = new double[size];
+        double[] productIm = new double[size];
+        for (int k = 0; k < size; k++) {
+            int j = (size - k) & (size - 1);
+            double zr = re[k], zi = im[k];
+            double wr = re[j], wi = -im[j]; // conj(Z_{N-k})
+
+            double ar = (zr + wr) * 0.5, ai = (zi + wi) * 0.5;
+            // (Z_k - conj(Z_{N-k})) / (2i) = (dr + i·di) / (2i) = (di - i·dr) / 2
+            double br = (zi - wi) * 0.5, bi = -(zr - wr) * 0.5;
+
+            productRe[k] = ar * br - ai * bi;
+            productIm[k] = ar * bi + ai * br;
+        }
+
+        transform(productRe, productIm, cos, sin, true);
+
+        double[] result = new double[resultLength];
+        for (int i = 0; i < resultLength; i++) {
+            result[i] = productRe[i] / size;
+        }
+        return result;
+    }
+
+    /**
+     * Итеративное БПФ по основанию 2 на месте (алгоритм Кули-Тьюки).
+     * Обратное преобразование выполняется без нормировки на N.
+     *
+     * @param re действительные части, длина - степень двойки
+     * @param im мнимые части
+     * @param cos таблица cos(2πk/N) для k < N/2
+     * @param sin таблица sin(2πk/N) для k < N/2
+     * @param inverse true для обратного преобразования
+     */
+    private static void transform(double[] re, double[] im, double[] cos, double[] sin, boolean inverse) {
+        int n = re.length;
+
+        // Перестановка элементов в бит-реверсном порядке
+        for (int i = 1, j = 0; i < n; i++) {
+            int bit = n >> 1;
+            for (; (j & bit) != 0; bit >>= 1) {
+                j ^= bit;
+            }
+            j ^= bit;
+            if (i < j) {
+                double t = re[i]; re[i] = re[j]; re[j] = t;
+                t = im[i]; im[i] = im[j]; im[j] = t;
+            }
+        }
+
+        double sign = inverse ? 1.0 : -1.0;
+        for (int len = 2; len <= n; len <<= 1) {
+            int half = len >> 1;
+            int step = n / len;
+            for (int start = 0; start < n; start += len) {
+                for (int k = 0; k < half; k++) {
+                    double wr = cos[k * step];
+                    double wi = sign * sin[k * step];
+                    int u = start + k;
+                    int v = u + half;
+                    double tr = re[v] * wr - im[v] * wi;
+                    double ti = re[v] * wi + im[v] * wr;
+                    re[v] = re[u] - tr;
+                    im[v] = im[u] - ti;
+                    re[u] += tr;
+                    im[u] += ti;
+                }
+            }
+        }
+    }
+
+    private static double[] slice(double[] source, int from, int to) {
+        double[] result = new double[to - from];
+        System.arraycopy(source, from, result, 0, to - from);
+        return result;
+    }
+
+    private static double[] sum(double[] x, double[] y) {
+        double[] longer = x.length >= y.length ? x : y;
+        double[] shorter = x.length >= y.length ? y : x;
+        double[] result = longer.clone();
+        for (int i = 0; i < shorter.length; i++) {
+            result[i] += shorter[i];
+        }
+        return result;
+    }
+
+    private static void addInto(double[] target, double[] source, int offset) {
+        for (int i = 0; i < source.length; i++) {
+            target[offset + i] += source[i];
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package math;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Событие JFR: умножение полиномов, у которых произведение длин операндов
+ * не меньше {@value #MIN_WORK}. Меньшие умножения не записываются,
+ * чтобы не засорять запись частыми короткими событиями.
+ */
+@Name("math.PolynomialMultiply")
+@Label("Polynomial Multiply")
+@Category("Polynomial")
+@Description("Large polynomial multiplication")
+final class PolynomialMultiplyEvent extends Event {
+    /**
+     * Наименьшее произведение длин операндов записываемого умножения (например, 256 × 256).
+     */
+    static final long MIN_WORK = 1L << 16;
+
+    @Label("Degree")
+    int degree;
+
+    @Label("Left Degree")
+    int leftDegree;
+
+    @Label("Right Degree")
+    int rightDegree;
+
+    @Label("Algorithm")
+    String algorithm;
+
+    static boolean isLarge(int leftLength, int rightLength) {
+        return (long) leftLength * rightLength >= MIN_WORK;
+    }
+}
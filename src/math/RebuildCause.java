@@ -0,0 +1,29 @@
+package math;
+
+/**
+ * Причина перестроения интерполянта, записываемая в события JFR.
+ */
+enum RebuildCause {
+    /** Построение полинома. */
+    CONSTRUCTOR("constructor"),
+    /** Добавление точки. */
+    ADD_POINT("addPoint"),
+    /** Первое вычисление значения после изменения узлов. */
+    EVALUATE("evaluate"),
+    /** {@link Polynomial#getCoefficients()}. */
+    GET_COEFFICIENTS("getCoefficients"),
+    /** {@link Polynomial#toString()}. */
+    TO_STRING("toString"),
+    /** Арифметика, сравнение и другие обращения к массиву коэффициентов. */
+    ARITHMETIC("arithmetic"),
+    /** {@link NewtonPolynomial#getDividedDifferences()}. */
+    DIVIDED_DIFFERENCES("getDividedDifferences"),
+    /** Периодический пересчет для сброса накопленной ошибки округления. */
+    REFRESH("refresh");
+
+    final String label;
+
+    RebuildCause(String label) {
+        this.label = label;
+    }
+}
@@ -0,0 +1,77 @@
+package math;
+
+/**
+ * Скалярные ядра пакетного вычисления полиномов.
+ *
+ * Класс есть только в основной версии JAR, поэтому {@link BatchKernels} для JDK 11
+ * и для JDK 17+ (без подключенного jdk.incubator.vector) вызывают один и тот же код.
+ *
+ * Ядра работают с блоком точек, уже скопированным вызывающим кодом,
+ * поэтому не заботятся о совпадении входного и выходного массивов.
+ */
+final class ScalarKernels {
+    private ScalarKernels() {
+    }
+
+    /**
+     * Схема Горнера для блока точек: out[outOffset + i] = p(block[i]).
+     * Внешний цикл идет по коэффициентам, внутренний - по точкам, без зависимостей
+     * между итерациями, что позволяет JIT векторизовать его автоматически.
+     *
+     * @param c коэффициенты от a₀ до aₙ
+     * @param block точки
+     * @param size количество точек в блоке
+     * @param out массив для результатов
+     * @param outOffset индекс первого результата
+     */
+    static void horner(double[] c, double[] block, int size, double[] out, int outOffset) {
+        int n = c.length - 1;
+        for (int i = 0; i < size; i++) {
+            out[outOffset + i] = c[n];
+        }
+        for (int k = n - 1; k >= 0; k--) {
+            double ck = c[k];
+            for (int i = 0; i < size; i++) {
+                out[outOffset + i] = out[outOffset + i] * block[i] + ck;
+            }
+        }
+    }
+
+    /**
+     * Барицентрическая формула для блока точек:
+     * out[outOffset + i] = Σ(w_j·y_j/(x_i - x_j)) / Σ(w_j/(x_i - x_j)).
+     * Совпадения с узлами не обрабатываются, это делает вызывающий код.
+     *
+     * @param nodeX абсциссы узлов
+     * @param nodeY значения в узлах
+     * @param weights барицентрические веса
+     * @param n количество узлов
+     * @param block точки
+     * @param size количество точек в блоке
+     * @param out массив для результатов
+     * @param outOffset индекс первого результата
+     * @param numerator буфер длины не меньше size
+     * @param denominator буфер длины не меньше size
+     */
+    static void barycentric(double[] nodeX, double[] nodeY, double[] weights, int n,
+                            double[] block, int size, double[] out, int outOffset,
+                            double[] numerator, double[] denominator) {
+        for (int i = 0; i < size; i++) {
+            numerator[i] = 0.0;
+            denominator[i] = 0.0;
+        }
+        for (int j = 0; j < n; j++) {
+            double xj = nodeX[j];
+            double wj = weights[j];
+            double yj = nodeY[j];
+            for (int i = 0; i < size; i++) {
+                double temp = wj / (block[i] - xj);
+                numerator[i] += temp * yj;
+                denominator[i] += temp;
+            }
+        }
+        for (int i = 0; i < size; i++) {
+            out[outOffset + i] = numerator[i] / denominator[i];
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package math;
+
+import java.util.Objects;
+
+/**
+ * Интерполяция по последним k отсчетам временного ряда.
+ *
+ * Отсчеты хранятся только в столбцах узлов интерполянта - полинома Ньютона
+ * с узлами в порядке добавления ({@link NewtonPolynomial#inInsertionOrder()}).
+ * Новый отсчет продлевает таблицу разделенных разностей на одну диагональ,
+ * вытесняемый (самый старый) отсчет исключается из нее пересчетом первых разностей
+ * и сдвигом начала столбцов без копирования, поэтому {@link #push(double, double)}
+ * и {@link #evaluate(double)} выполняются за O(k). Столбцы емкостью 2k сдвигаются
+ * в начало раз в k шагов; после первого такого сдвига память на шаге не выделяется.
+ *
+ * Пересчеты при вытеснении накапливают ошибку округления, поэтому каждые k шагов
+ * разделенные разности вычисляются заново за O(k²) в тех же буферах, что дает
+ * O(k) в среднем на шаг.
+ *
+ * Экземпляр не потокобезопасен.
+ */
+public final class SlidingWindowInterpolator {
+    private final int capacity;
+    private int pushesSinceRefresh;
+    private final NewtonPolynomial newton = NewtonPolynomial.inInsertionOrder();
+
+    /**
+     * Создает пустое окно.
+     *
+     * @param windowSize количество последних отсчетов k, по которым строится интерполянт
+     * @throws IllegalArgumentException если windowSize меньше 1
+     */
+    public SlidingWindowInterpolator(int windowSize) {
+        if (windowSize < 1) {
+            throw new IllegalArgumentException("Window size must be positive: " + windowSize);
+        }
+        this.capacity = windowSize;
+    }
+
+    /**
+     * Добавляет отсчет. Если окно заполнено, самый старый отсчет вытесняется.
+     *
+     * @param x абсцисса отсчета (например, время)
+     * @param y значение
+     * @throws IllegalArgumentException если x совпадает с абсциссой отсчета,
+     *         остающегося в окне (с точностью до EPSILON); окно при этом не меняется
+     */
+    public void push(double x, double y) {
+        if (isFull()) {
+            newton.replaceOldest(x, y);
+        } else {
+            newton.appendPoint(x, y);
+        }
+
+        if (++pushesSinceRefresh >= capacity) {
+            newton.refreshDifferences();
+            pushesSinceRefresh = 0;
+        }
+    }
+
+    /**
+     * Вычисляет значение интерполянта по отсчетам окна, O(k).
+     *
+     * @param x точка
+     * @return значение интерполяционного полинома, 0 для пустого окна
+     */
+    public double evaluate(double x) {
+        return newton.evaluate(x);
+    }
+
+    /**
+     * Возвращает абсциссу отсчета окна.
+     *
+     * @param index индекс от самого старого (0) до самого нового (size() - 1)
+     * @return абсцисса отсчета
+     * @throws IndexOutOfBoundsException если индекс вне окна
+     */
+    public double getX(int index) {
+        return newton.nodeX(Objects.checkIndex(index, size()));
+    }
+
+    /**
+     * Возвращает значение отсчета окна.
+     *
+     * @param index индекс от самого старого (0) до самого нового (size() - 1)
+     * @return значение отсчета
+     * @throws IndexOutOfBoundsException если индекс вне окна
+     */
+    public double getY(int index) {
+        return newton.nodeY(Objects.checkIndex(index, size()));
+    }
+
+    /**
+     * Возвращает количество отсчетов в окне.
+     *
+     * @return количество отсчетов, не больше {@link #capacity()}
+     */
+    public int size() {
+        return newton.nodeCount();
+    }
+
+    /**
+     * Возвращает размер окна k.
+     *
+     * @return максимальное количество отсчетов
+     */
+    public int capacity() {
+        return capacity;
+    }
+
+    /**
+     * Проверяет, заполнено ли окно.
+     *
+     * @return true если в окне k отсчетов
+     */
+    public boolean isFull() {
+        return size() == capacity;
+    }
+
+    /**
+     * Возвращает текущий интерполянт как независимый полином Ньютона.
+     * Создает новый объект, поэтому не предназначен для вызова на каждом шаге.
+     *
+     * @return полином Ньютона по отсчетам окна в порядке поступления
+     */
+    public NewtonPolynomial toPolynomial() {
+        NewtonPolynomial snapshot = NewtonPolynomial.inInsertionOrder();
+        for (int i = 0; i < size(); i++) {
+            snapshot.appendPoint(newton.nodeX(i), newton.nodeY(i));
+        }
+        return snapshot;
+    }
+}
@@ -0,0 +1,80 @@
+package test;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import math.DividedDifferences;
+import math.NewtonPolynomial;
+import math.Point;
+
+class DividedDifferencesTest {
+
+    @Test
+    @DisplayName("Тест полной таблицы разделенных разностей")
+    void testTable() {
+        double[] xs = {1.0, 3.0, 5.0, 6.0};
+        double[] ys = {2.0, 4.0, 8.0, 11.0};
+
+        double[][] table = DividedDifferences.table(xs, ys);
+        assertEquals(4, table.length);
+        assertArrayEquals(ys, table[0], "Нулевой порядок - значения в узлах");
+        assertArrayEquals(new double[] {1.0, 2.0, 3.0}, table[1], 1e-12);
+        assertArrayEquals(new double[] {0.25, 1.0 / 3.0}, table[2], 1e-12);
+        assertArrayEquals(new double[] {(1.0 / 3.0 - 0.25) / 5.0}, table[3], 1e-12);
+    }
+
+    @Test
+    @DisplayName("Диагональ и столбцы совпадают с полной таблицей")
+    void testDiagonalAndColumn() {
+        Random random = new Random(18);
+        int n = 30;
+        double[] xs = new double[n];
+        double[] ys = new double[n];
+        for (int i = 0; i < n; i++) {
+            xs[i] = i + 0.5 * random.nextDouble(); // Узлы не обязаны быть отсортированы
+            ys[i] = Math.sin(xs[i]);
+        }
+        double t = xs[3]; xs[3] = xs[17]; xs[17] = t;
+
+        double[][] table = DividedDifferences.table(xs, ys);
+        double[] diagonal = DividedDifferences.diagonal(xs, ys);
+        for (int k = 0; k < n; k++) {
+            assertEquals(table[k][0], diagonal[k], 0.0, "Диагональ порядка " + k);
+            assertArrayEquals(table[k], DividedDifferences.column(xs, ys, k), "Столбец порядка " + k);
+        }
+    }
+
+    @Test
+    @DisplayName("Некорректные аргументы отклоняются")
+    void testValidation() {
+        assertThrows(IllegalArgumentException.class,
+            () -> DividedDifferences.table(new double[] {1, 2}, new double[] {1}));
+        assertThrows(IllegalArgumentException.class,
+            () -> DividedDifferences.diagonal(new double[] {1, 2, 1}, new double[] {1, 2, 3}),
+            "Совпадающие узлы недопустимы");
+        assertThrows(IllegalArgumentException.class,
+            () -> DividedDifferences.table(new double[] {0, 1, 1 + 1e-12}, new double[] {1, 2, 3}),
+            "Узлы ближе EPSILON считаются совпадающими, как в addPoint");
+        assertThrows(IndexOutOfBoundsException.class,
+            () -> DividedDifferences.column(new double[] {1, 2}, new double[] {1, 2}, 2));
+        assertEquals(0, DividedDifferences.table(new double[0], new double[0]).length);
+    }
+
+    @Test
+    @DisplayName("Разделенные разности полинома Ньютона")
+    void testNewtonPolynomialAccessors() {
+        NewtonPolynomial np = new NewtonPolynomial(List.of(
+            new Point(2.0, 7.0), new Point(0.0, 1.0), new Point(1.0, 3.0)));
+
+        assertArrayEquals(new double[] {1.0, 2.0, 1.0}, np.getDividedDifferences(), 1e-12);
+        double[][] table = np.getDividedDifferenceTable();
+        assertArrayEquals(new double[] {1.0, 3.0, 7.0}, table[0]);
+        assertArrayEquals(new double[] {2.0, 4.0}, table[1], 1e-12);
+        assertArrayEquals(new double[] {1.0}, table[2], 1e-12);
+    }
+}
@@ -0,0 +1,159 @@
+package test;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import math.LagrangePolynomial;
+import math.NewtonPolynomial;
+import math.Point;
+import math.Polynomial;
+
+class JfrEventsTest {
+
+    private static final String REBUILD = "math.InterpolationRebuild";
+    private static final String PRECOMPUTE = "math.InterpolationPrecompute";
+    private static final String MULTIPLY = "math.PolynomialMultiply";
+
+    private static final List<Point> POINTS = List.of(
+        new Point(0, 1), new Point(1, 3), new Point(2, 2), new Point(3, 5), new Point(4, -1));
+
+    /**
+     * Выполняет действие под записью JFR и возвращает события полиномов.
+     */
+    private static List<RecordedEvent> record(Runnable action) throws Exception {
+        Path file = Files.createTempFile("polynomial", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(REBUILD);
+            recording.enable(PRECOMPUTE);
+            recording.enable(MULTIPLY);
+            recording.start();
+            action.run();
+            recording.stop();
+            recording.dump(file);
+            return RecordingFile.readAllEvents(file).stream()
+                .filter(e -> e.getEventType().getName().startsWith("math."))
+                .collect(Collectors.toList());
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private static List<RecordedEvent> ofType(List<RecordedEvent> events, String name) {
+        return events.stream().filter(e -> e.getEventType().getName().equals(name)).collect(Collectors.toList());
+    }
+
+    @Test
+    @DisplayName("Лагранж: пересчет весов при построении и ленивое перестроение в toString")
+    void testLagrangeEvents() throws Exception {
+        List<RecordedEvent> events = record(() -> {
+            LagrangePolynomial lagrange = new LagrangePolynomial(POINTS);
+            lagrange.evaluate(0.5);
+            lagrange.toString();
+        });
+
+        List<RecordedEvent> precomputes = ofType(events, PRECOMPUTE);
+        assertEquals(1, precomputes.size());
+        assertEquals("constructor", precomputes.get(0).getString("cause"));
+        assertEquals("LagrangePolynomial", precomputes.get(0).getString("polynomial"));
+        assertEquals(5, precomputes.get(0).getInt("nodeCount"));
+        assertEquals(4, precomputes.get(0).getInt("degree"));
+
+        List<RecordedEvent> rebuilds = ofType(events, REBUILD);
+        assertEquals(1, rebuilds.size(), "Вычисление не перестраивает коэффициенты");
+        assertEquals("toString", rebuilds.get(0).getString("cause"));
+        assertFalse(rebuilds.get(0).getDuration().isNegative());
+    }
+
+    @Test
+    @DisplayName("Ньютон: причина ленивого пересчета - первая операция, которой он понадобился")
+    void testNewtonCauses() throws Exception {
+        List<RecordedEvent> events = record(() -> {
+            NewtonPolynomial newton = new NewtonPolynomial(POINTS);
+            newton.evaluate(0.5);
+            newton.getCoefficients();
+
+            NewtonPolynomial other = new NewtonPolynomial(POINTS);
+            other.add(new Polynomial(1.0));
+
+            NewtonPolynomial stream = NewtonPolynomial.inInsertionOrder();
+            stream.addPoints(POINTS);
+            stream.removePoint(2.0); // Удаление из середины откладывает пересчет
+            stream.addPoint(new Point(10, 0));
+        });
+
+        List<RecordedEvent> precomputes = ofType(events, PRECOMPUTE);
+        List<String> precomputeCauses = precomputes.stream()
+            .map(e -> e.getString("cause")).collect(Collectors.toList());
+        assertEquals(List.of("evaluate", "arithmetic", "addPoint"), precomputeCauses);
+        assertTrue(precomputes.stream().allMatch(e -> e.getString("polynomial").equals("NewtonPolynomial")));
+
+        List<String> rebuildCauses = ofType(events, REBUILD).stream()
+            .map(e -> e.getString("cause")).collect(Collectors.toList());
+        assertEquals(List.of("getCoefficients", "arithmetic"), rebuildCauses);
+    }
+
+    @Test
+    @DisplayName("Записываются только большие умножения")
+    void testMultiplyEvents() throws Exception {
+        Random random = new Random(25);
+        double[] a = new double[300];
+        double[] b = new double[400];
+        for (int i = 0; i < a.length; i++) a[i] = random.nextDouble() + 0.5;
+        for (int i = 0; i < b.length; i++) b[i] = random.nextDouble() + 0.5;
+        Polynomial p = new Polynomial(a);
+        Polynomial q = new Polynomial(b);
+
+        List<RecordedEvent> events = record(() -> {
+            p.multiply(q);
+            new Polynomial(1, 2, 3).multiply(new Polynomial(4, 5));
+        });
+
+        List<RecordedEvent> multiplies = ofType(events, MULTIPLY);
+        assertEquals(1, multiplies.size());
+        RecordedEvent event = multiplies.get(0);
+        assertEquals(698, event.getInt("degree"));
+        assertEquals(299, event.getInt("leftDegree"));
+        assertEquals(399, event.getInt("rightDegree"));
+        assertEquals("karatsuba", event.getString("algorithm"));
+    }
+
+    @Test
+    @DisplayName("Алгоритм в событии умножения - тот, что выбран по текущим порогам")
+    void testMultiplyAlgorithmFollowsThresholds() throws Exception {
+        double[] a = new double[600];
+        double[] b = new double[200];
+        Arrays.fill(a, 1.0);
+        Arrays.fill(b, 0.5);
+        Polynomial longer = new Polynomial(a);
+        Polynomial shorter = new Polynomial(b);
+
+        int fftThreshold = Polynomial.getFftThreshold();
+        List<RecordedEvent> events;
+        try {
+            events = record(() -> {
+                longer.multiply(shorter);
+                Polynomial.setFftThreshold(100);
+                longer.multiply(shorter);
+            });
+        } finally {
+            Polynomial.setFftThreshold(fftThreshold);
+        }
+
+        List<String> algorithms = ofType(events, MULTIPLY).stream()
+            .map(e -> e.getString("algorithm")).collect(Collectors.toList());
+        assertEquals(List.of("unbalanced-karatsuba", "fft"), algorithms);
+    }
+}
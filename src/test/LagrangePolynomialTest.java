@@ -17,6 +17,7 @@ import static org.junit.jupiter.api.Assertions.*;
 
 import math.LagrangePolynomial;
 import math.Point;
+import math.Polynomial;
 
 class LagrangePolynomialTest {
 
@@ -733,4 +734,163 @@ class LagrangePolynomialTest {
         // Наконец, тестируем с полиномом, который имеет смесь больших и малых коэффициентов
         negativeLP.evaluate(0.5);  // Вычисление в точке, которая не является одним из входных данных
     }
+
+    @Test
+    @DisplayName("Пакетное барицентрическое вычисление совпадает с поточечным")
+    void testBatchEvaluate() {
+        List<Point> points = new ArrayList<>();
+        for (int i = 0; i < 12; i++) {
+            double x = Math.cos(Math.PI * (2 * i + 1) / 24);
+            points.add(new Point(x, Math.exp(x)));
+        }
+        LagrangePolynomial lp = new LagrangePolynomial(points);
+        
+        double[] xs = new double[700];
+        for (int i = 0; i < xs.length; i++) {
+            xs[i] = -1.0 + 2.0 * i / (xs.length - 1);
+        }
+        xs[3] = points.get(5).getX();
+        double[] out = new double[xs.length + 1];
+        
+        lp.evaluate(xs, 0, out, 1, xs.length);
+        assertEquals(0.0, out[0], "Элемент до смещения не должен изменяться");
+        for (int i = 0; i < xs.length; i++) {
+            assertEquals(lp.evaluate(xs[i]), out[i + 1], 1e-12, "Значение в точке " + xs[i] + " должно совпадать");
+        }
+        assertEquals(points.get(5).getY(), out[4], "В узле должно возвращаться значение узла");
+    }
+
+    @Test
+    @DisplayName("Пакетное вычисление для одинаковых значений y")
+    void testBatchEvaluateIdenticalY() {
+        LagrangePolynomial lp = new LagrangePolynomial(List.of(new Point(0, 5), new Point(1, 5), new Point(2, 5)));
+        double[] out = new double[3];
+        lp.evaluate(new double[] {-1.0, 0.5, 10.0}, out);
+        assertArrayEquals(new double[] {5.0, 5.0, 5.0}, out);
+    }
+
+    @Test
+    @DisplayName("Коэффициенты через общий многочлен M(x) совпадают с исходным полиномом")
+    void testCoefficientsFromMasterProduct() {
+        // p(x) = 2x⁷ - x⁵ + 3x² - 4x + 1
+        double[] expected = {1, -4, 3, 0, 0, -1, 0, 2};
+        List<Point> points = new ArrayList<>();
+        for (int i = 0; i < expected.length; i++) {
+            double x = -1.0 + 2.0 * i / (expected.length - 1);
+            double y = 0.0;
+            for (int k = expected.length - 1; k >= 0; k--) {
+                y = y * x + expected[k];
+            }
+            points.add(new Point(x, y));
+        }
+        
+        LagrangePolynomial lp = new LagrangePolynomial(points);
+        List<Double> coeffs = lp.getCoefficients();
+        assertEquals(expected.length, coeffs.size());
+        for (int k = 0; k < expected.length; k++) {
+            assertEquals(expected[k], coeffs.get(k), 1e-10, "Коэффициент при x^" + k);
+        }
+    }
+
+    @Test
+    @DisplayName("Коэффициенты строятся лениво, вычисление значений их не строит")
+    void testLazyCoefficients() {
+        LagrangePolynomial lp = new LagrangePolynomial(List.of(new Point(0, 1), new Point(1, 3), new Point(2, 7)));
+        assertFalse(lp.hasMaterializedCoefficients(), "Конструктор не должен строить коэффициенты");
+        
+        assertEquals(13.0, lp.evaluate(3.0), 1e-10);
+        double[] out = new double[2];
+        lp.evaluate(new double[] {-1.0, 0.5}, out);
+        assertEquals(2, lp.degree());
+        assertFalse(lp.hasMaterializedCoefficients(), "Вычисление значений не должно строить коэффициенты");
+        
+        assertEquals(List.of(1.0, 1.0, 1.0), lp.getCoefficients());
+        assertTrue(lp.hasMaterializedCoefficients());
+        
+        lp.addPoint(new Point(3, 0));
+        assertFalse(lp.hasMaterializedCoefficients(), "После добавления точки коэффициенты недействительны");
+        lp.add(new Polynomial(1.0));
+        assertTrue(lp.hasMaterializedCoefficients(), "Арифметические операции строят коэффициенты");
+    }
+
+    @Test
+    @DisplayName("Инкрементальное обновление весов при добавлении и удалении точек")
+    void testIncrementalWeights() {
+        List<Point> points = new ArrayList<>();
+        for (int i = 0; i < 9; i++) {
+            double x = -2.0 + 0.5 * i;
+            points.add(new Point(x, Math.sin(x)));
+        }
+        LagrangePolynomial incremental = new LagrangePolynomial(points.subList(0, 1));
+        for (int i : new int[] {4, 8, 2, 6, 1, 7, 3, 5}) {
+            incremental.addPoint(points.get(i));
+        }
+        
+        LagrangePolynomial full = new LagrangePolynomial(points);
+        for (double x = -2.3; x <= 2.3; x += 0.17) {
+            assertEquals(full.evaluate(x), incremental.evaluate(x), 1e-12, "Значения должны совпадать в точке " + x);
+        }
+        
+        assertTrue(incremental.removePoint(points.get(3)));
+        assertTrue(incremental.removePoint(points.get(8)));
+        assertFalse(incremental.removePoint(new Point(points.get(4).getX(), 100.0)), "Точка с другим y не удаляется");
+        assertFalse(incremental.removePoint(new Point(10.0, 0.0)));
+        
+        List<Point> reduced = new ArrayList<>(points);
+        reduced.remove(8);
+        reduced.remove(3);
+        LagrangePolynomial expected = new LagrangePolynomial(reduced);
+        for (double x = -2.3; x <= 2.3; x += 0.17) {
+            assertEquals(expected.evaluate(x), incremental.evaluate(x), 1e-12, "Значения после удаления в точке " + x);
+        }
+        assertEquals(expected.getCoefficients().size(), incremental.getCoefficients().size());
+        
+        LagrangePolynomial single = new LagrangePolynomial(List.of(new Point(1, 1)));
+        assertThrows(IllegalStateException.class, () -> single.removePoint(new Point(1, 1)),
+            "Единственную точку удалить нельзя");
+    }
+
+    @Test
+    @DisplayName("Признак одинаковых y обновляется при изменении набора точек")
+    void testIdenticalYFlagOnMutation() {
+        LagrangePolynomial lp = new LagrangePolynomial(List.of(new Point(1, 2), new Point(2, 2)));
+        assertEquals(2.0, lp.evaluate(7.0), 1e-12);
+        
+        lp.addPoint(new Point(0, 2));
+        assertEquals(2.0, lp.evaluate(7.0), 1e-12, "Вставка в начало с тем же y сохраняет константу");
+        
+        lp.addPoint(new Point(-1, 3));
+        assertEquals(3.0, lp.evaluate(-1.0), 1e-12);
+        assertNotEquals(2.0, lp.evaluate(7.0), 1e-6, "После добавления другого y полином не константа");
+        
+        assertTrue(lp.removePoint(new Point(-1, 3)));
+        assertEquals(2.0, lp.evaluate(7.0), 1e-12, "После удаления полином снова константа");
+        assertEquals(List.of(2.0), lp.getCoefficients());
+    }
+
+    @Test
+    @DisplayName("Точки хранятся столбцами и возвращаются отсортированным неизменяемым списком")
+    void testGetPointsAfterMutations() {
+        LagrangePolynomial lp = new LagrangePolynomial(List.of(new Point(3, 9), new Point(1, 1)));
+        for (int i = 4; i < 20; i++) {
+            lp.addPoint(new Point(i, (double) i * i));
+        }
+        lp.addPoint(new Point(0, 0));
+        lp.addPoint(new Point(2, 4));
+        assertTrue(lp.removePoint(new Point(10, 100)));
+        
+        List<Point> stored = lp.getPoints();
+        assertEquals(19, stored.size());
+        for (int i = 1; i < stored.size(); i++) {
+            assertTrue(stored.get(i - 1).getX() < stored.get(i).getX(), "Точки должны быть отсортированы по x");
+        }
+        assertFalse(stored.contains(new Point(10, 100)));
+        assertSame(stored, lp.getPoints(), "Список не должен строиться повторно без изменений");
+        assertThrows(UnsupportedOperationException.class, () -> stored.add(new Point(100, 0)));
+        
+        assertEquals(110.25, lp.evaluate(10.5), 1e-6);
+        lp.addPoint(new Point(-1, 1));
+        assertEquals(19, stored.size(), "Ранее полученный список не меняется");
+        assertEquals(20, lp.getPoints().size());
+    }
 } 
\ No newline at end of file
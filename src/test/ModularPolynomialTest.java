@@ -0,0 +1,207 @@
+package test;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.math.BigInteger;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import math.ModularPolynomial;
+
+class ModularPolynomialTest {
+    private static final long P = ModularPolynomial.DEFAULT_MODULUS;
+
+    @Test
+    @DisplayName("Тест конструктора: приведение по модулю и обрезка старших нулей")
+    void testConstructor() {
+        ModularPolynomial p = new ModularPolynomial(7, -1, 9, 14, 0);
+        assertEquals(1, p.degree(), "Старшие нули по модулю должны быть отброшены");
+        assertArrayEquals(new long[] {6, 2}, p.getCoefficients(), "Коэффициенты должны быть приведены в [0, p)");
+        assertEquals(7, p.getModulus());
+        assertEquals(0, p.coefficient(5), "Коэффициент выше степени равен нулю");
+    }
+
+    @Test
+    @DisplayName("Модуль должен быть простым числом меньше 2^31")
+    void testInvalidModulus() {
+        assertThrows(IllegalArgumentException.class, () -> new ModularPolynomial(8, 1, 2));
+        assertThrows(IllegalArgumentException.class, () -> new ModularPolynomial(1, 1));
+        assertThrows(IllegalArgumentException.class, () -> new ModularPolynomial(4_294_967_311L, 1));
+    }
+
+    @Test
+    @DisplayName("Тест сложения, вычитания и умножения на скаляр")
+    void testAddSubtractScalar() {
+        ModularPolynomial a = new ModularPolynomial(11, 3, 5, 7);
+        ModularPolynomial b = new ModularPolynomial(11, 9, 6, 4);
+
+        assertEquals(new ModularPolynomial(11, 1, 0, 0), a.add(b), "Сумма должна приводиться по модулю");
+        assertEquals(new ModularPolynomial(11, -6, -1, 3), a.subtract(b));
+        assertEquals(new ModularPolynomial(11, 6, 10, 14), a.multiply(2));
+        assertThrows(IllegalArgumentException.class, () -> a.add(new ModularPolynomial(13, 1)),
+            "Полиномы с разными модулями складывать нельзя");
+    }
+
+    @Test
+    @DisplayName("Тест вычисления значения по схеме Горнера")
+    void testEvaluate() {
+        ModularPolynomial p = new ModularPolynomial(13, 1, 2, 3); // 3x² + 2x + 1
+        assertEquals(Math.floorMod(3 * 25 + 2 * 5 + 1, 13), p.evaluate(5));
+        assertEquals(Math.floorMod(3 * 4 - 2 * 2 + 1, 13), p.evaluate(-2));
+    }
+
+    @Test
+    @DisplayName("Умножение через NTT совпадает с классическим умножением")
+    void testNttMultiplyMatchesNaive() {
+        Random random = new Random(11);
+        long[] a = new long[300];
+        long[] b = new long[200];
+        for (int i = 0; i < a.length; i++) a[i] = random.nextInt((int) Math.min(P, Integer.MAX_VALUE));
+        for (int i = 0; i < b.length; i++) b[i] = random.nextInt((int) Math.min(P, Integer.MAX_VALUE));
+        a[a.length - 1] = 1;
+        b[b.length - 1] = 1;
+
+        for (long p : ModularPolynomial.nttPrimes()) {
+            long[] expected = new long[a.length + b.length - 1];
+            for (int i = 0; i < a.length; i++) {
+                for (int j = 0; j < b.length; j++) {
+                    expected[i + j] = (expected[i + j] + a[i] % p * (b[j] % p)) % p;
+                }
+            }
+
+            ModularPolynomial product = new ModularPolynomial(p, a).multiply(new ModularPolynomial(p, b));
+            assertArrayEquals(expected, product.getCoefficients(), "Произведение через NTT должно быть точным по модулю " + p);
+        }
+    }
+
+    @Test
+    @DisplayName("Умножение по модулю без подходящей степени двойки использует классический алгоритм")
+    void testMultiplyNonNttPrime() {
+        long p = 1_000_000_007L; // p - 1 = 2 · 500000003
+        long[] a = new long[100];
+        long[] b = new long[100];
+        for (int i = 0; i < 100; i++) {
+            a[i] = i + 1;
+            b[i] = 2L * i + 3;
+        }
+        ModularPolynomial product = new ModularPolynomial(p, a).multiply(new ModularPolynomial(p, b));
+        assertEquals(198, product.degree());
+        assertEquals(3, product.coefficient(0));
+        assertEquals(100L * 201, product.coefficient(198));
+    }
+
+    @Test
+    @DisplayName("Восстановление точных целых коэффициентов по КТО")
+    void testCrtReconstruction() {
+        // (x - 10⁹)(x + 10⁹)·(3x - 7) = 3x³ - 7x² - 3·10¹⁸x + 7·10¹⁸
+        BigInteger e18 = BigInteger.TEN.pow(18);
+        BigInteger[] expected = {
+            e18.multiply(BigInteger.valueOf(7)),
+            e18.multiply(BigInteger.valueOf(-3)),
+            BigInteger.valueOf(-7),
+            BigInteger.valueOf(3)
+        };
+
+        long[] primes = ModularPolynomial.nttPrimes();
+        ModularPolynomial[] images = new ModularPolynomial[3];
+        for (int i = 0; i < images.length; i++) {
+            long p = primes[i];
+            images[i] = new ModularPolynomial(p, -1_000_000_000L, 1)
+                .multiply(new ModularPolynomial(p, 1_000_000_000L, 1))
+                .multiply(new ModularPolynomial(p, -7, 3));
+        }
+
+        assertArrayEquals(expected, ModularPolynomial.reconstructCoefficients(images),
+            "Коэффициенты должны восстанавливаться точно, включая отрицательные");
+    }
+
+    @Test
+    @DisplayName("КТО требует различных модулей")
+    void testCrtDuplicateModuli() {
+        ModularPolynomial a = new ModularPolynomial(P, 1, 2);
+        assertThrows(IllegalArgumentException.class, () -> ModularPolynomial.reconstructCoefficients(a, a));
+        assertThrows(IllegalArgumentException.class, ModularPolynomial::reconstructCoefficients);
+    }
+
+    @Test
+    @DisplayName("Точная интерполяция по целым данным")
+    void testInterpolate() {
+        // y = x⁴ - 3x + 2
+        long[] xs = {-2, -1, 0, 1, 2};
+        long[] ys = new long[xs.length];
+        for (int i = 0; i < xs.length; i++) {
+            long x = xs[i];
+            ys[i] = x * x * x * x - 3 * x + 2;
+        }
+
+        ModularPolynomial p = ModularPolynomial.interpolate(P, xs, ys);
+        BigInteger[] coefficients = ModularPolynomial.reconstructCoefficients(p);
+        assertArrayEquals(new BigInteger[] {
+            BigInteger.valueOf(2), BigInteger.valueOf(-3), BigInteger.ZERO, BigInteger.ZERO, BigInteger.ONE
+        }, coefficients);
+
+        assertThrows(IllegalArgumentException.class,
+            () -> ModularPolynomial.interpolate(P, new long[] {1, 1 + P}, new long[] {0, 1}),
+            "Абсциссы, совпадающие по модулю, недопустимы");
+    }
+
+    @Test
+    @DisplayName("Рациональные коэффициенты интерполянта восстанавливаются рациональной реконструкцией")
+    void testRationalReconstruction() {
+        // Через (0, 1), (1, 0), (2, 2), (3, -1) проходит 1 - 31/6·x + 11/2·x² - 4/3·x³
+        long[] xs = {0, 1, 2, 3};
+        long[] ys = {1, 0, 2, -1};
+        long[] primes = ModularPolynomial.nttPrimes();
+        ModularPolynomial[] images = new ModularPolynomial[2];
+        for (int i = 0; i < images.length; i++) {
+            images[i] = ModularPolynomial.interpolate(primes[i], xs, ys);
+        }
+
+        BigInteger[][] expected = {
+            {BigInteger.ONE, BigInteger.ONE},
+            {BigInteger.valueOf(-31), BigInteger.valueOf(6)},
+            {BigInteger.valueOf(11), BigInteger.valueOf(2)},
+            {BigInteger.valueOf(-4), BigInteger.valueOf(3)}
+        };
+        BigInteger[][] actual = ModularPolynomial.reconstructRationalCoefficients(images);
+        assertEquals(expected.length, actual.length);
+        for (int i = 0; i < expected.length; i++) {
+            assertArrayEquals(expected[i], actual[i], "Коэффициент " + i);
+        }
+
+        BigInteger[][] integers = ModularPolynomial.reconstructRationalCoefficients(
+            new ModularPolynomial(P, 5, 0, -7));
+        assertArrayEquals(new BigInteger[] {BigInteger.valueOf(-7), BigInteger.ONE}, integers[2],
+            "Целые коэффициенты восстанавливаются как дроби со знаменателем 1");
+        assertArrayEquals(new BigInteger[] {BigInteger.ZERO, BigInteger.ONE}, integers[1]);
+    }
+
+    @Test
+    @DisplayName("Дробь, не помещающаяся в границы реконструкции, отвергается")
+    void testRationalReconstructionOutOfRange() {
+        // x/100007: знаменатель больше √(P/2) ≈ 22341, одного модуля недостаточно
+        long[] xs = {0, 100_007};
+        long[] ys = {0, 1};
+        ModularPolynomial image = ModularPolynomial.interpolate(P, xs, ys);
+        assertThrows(IllegalArgumentException.class, () -> ModularPolynomial.reconstructRationalCoefficients(image));
+
+        ModularPolynomial second = ModularPolynomial.interpolate(ModularPolynomial.nttPrimes()[1], xs, ys);
+        BigInteger[][] fraction = ModularPolynomial.reconstructRationalCoefficients(image, second);
+        assertArrayEquals(new BigInteger[] {BigInteger.ONE, BigInteger.valueOf(100_007)}, fraction[1],
+            "Второй модуль расширяет границы");
+    }
+
+    @Test
+    @DisplayName("Тест equals, hashCode и toString")
+    void testEqualsHashCodeToString() {
+        ModularPolynomial a = new ModularPolynomial(7, 1, 0, 1);
+        ModularPolynomial b = new ModularPolynomial(7, 8, 7, 15);
+        assertEquals(a, b);
+        assertEquals(a.hashCode(), b.hashCode());
+        assertNotEquals(a, new ModularPolynomial(11, 1, 0, 1), "Полиномы с разными модулями не равны");
+        assertEquals("x^2 + 1 (mod 7)", a.toString());
+        assertEquals("0 (mod 7)", new ModularPolynomial(7).toString());
+    }
+}
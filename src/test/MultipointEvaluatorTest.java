@@ -0,0 +1,144 @@
+package test;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import math.MultipointEvaluator;
+import math.Polynomial;
+
+class MultipointEvaluatorTest {
+
+    private static double[] randomArray(Random random, int length, double range) {
+        double[] result = new double[length];
+        for (int i = 0; i < length; i++) {
+            result[i] = (2 * random.nextDouble() - 1) * range;
+        }
+        return result;
+    }
+
+    private static void assertMatchesHorner(Polynomial p, double[] xs, double[] actual, double tolerance) {
+        assertEquals(xs.length, actual.length);
+        for (int i = 0; i < xs.length; i++) {
+            double expected = p.evaluate(xs[i]);
+            assertEquals(expected, actual[i], tolerance * Math.max(1.0, Math.abs(expected)),
+                "Значение в точке x[" + i + "] = " + xs[i]);
+        }
+    }
+
+    /**
+     * Количество делений на многочлены узлов (пакетно-приватный счетчик вычислителя).
+     */
+    private static long divisionCount(MultipointEvaluator evaluator) {
+        try {
+            java.lang.reflect.Method method = MultipointEvaluator.class.getDeclaredMethod("divisionCount");
+            method.setAccessible(true);
+            return (long) method.invoke(evaluator);
+        } catch (ReflectiveOperationException e) {
+            throw new AssertionError("Cannot read division count", e);
+        }
+    }
+
+    @Test
+    @DisplayName("Тест вычисления в небольшом наборе точек")
+    void testSmall() {
+        Polynomial p = new Polynomial(1, -2, 0, 3); // 3x³ - 2x + 1
+        MultipointEvaluator evaluator = new MultipointEvaluator(new double[] {0, 1, -1, 2, 0.5});
+        assertEquals(5, evaluator.size());
+        assertArrayEquals(new double[] {1, 2, 0, 21, 0.375}, evaluator.evaluate(p), 1e-12);
+    }
+
+    @Test
+    @DisplayName("Быстрое деление по дереву совпадает со схемой Горнера для близких к нулю точек")
+    void testWellConditionedPoints() {
+        Random random = new Random(8);
+        double[] xs = randomArray(random, 3000, 0.05);
+        Polynomial p = new Polynomial(randomArray(random, 2500, 1.0));
+
+        MultipointEvaluator evaluator = new MultipointEvaluator(xs);
+        assertMatchesHorner(p, xs, evaluator.evaluate(p), 1e-9);
+        // 3000 точек - дерево из 64 листьев; степень меньше числа точек, поэтому корень не делится,
+        // а остаток приводится по модулю каждого из 126 остальных узлов
+        assertEquals(126, divisionCount(evaluator), "Все значения должны получаться делением по дереву");
+    }
+
+    @Test
+    @DisplayName("Для плохо обусловленных точек точность не хуже схемы Горнера")
+    void testIllConditionedPoints() {
+        Random random = new Random(13);
+        double[] xs = randomArray(random, 1500, 1.0);
+        Polynomial p = new Polynomial(randomArray(random, 1200, 1.0));
+
+        MultipointEvaluator evaluator = new MultipointEvaluator(xs);
+        assertMatchesHorner(p, xs, evaluator.evaluate(p), 1e-9);
+    }
+
+    @Test
+    @DisplayName("Степень не меньше числа точек из [-1, 1]: деление на неустойчивый узел не выполняется")
+    void testDegreeAtLeastPointCount() {
+        Random random = new Random(15);
+        double[] xs = randomArray(random, 1500, 1.0);
+        MultipointEvaluator evaluator = new MultipointEvaluator(xs);
+        for (int degree : new int[] {1500, 1501, 2200}) {
+            Polynomial p = new Polynomial(randomArray(random, degree + 1, 1.0));
+            assertMatchesHorner(p, xs, evaluator.evaluate(p), 1e-9);
+        }
+        assertEquals(0, divisionCount(evaluator), "Для |x| порядка 1 делений быть не должно");
+
+        double[] scaled = new double[xs.length];
+        for (int i = 0; i < xs.length; i++) {
+            scaled[i] = 0.5 * xs[i];
+        }
+        Polynomial p = new Polynomial(randomArray(random, 1501, 1.0));
+        assertMatchesHorner(p, scaled, new MultipointEvaluator(scaled).evaluate(p), 1e-9);
+    }
+
+    @Test
+    @DisplayName("Равноотстоящие точки на [-1, 1]")
+    void testEquispacedPoints() {
+        Random random = new Random(16);
+        double[] xs = new double[2000];
+        for (int i = 0; i < xs.length; i++) {
+            xs[i] = -1.0 + 2.0 * i / (xs.length - 1);
+        }
+        MultipointEvaluator evaluator = new MultipointEvaluator(xs);
+        for (int degree : new int[] {100, 1999, 2000}) {
+            Polynomial p = new Polynomial(randomArray(random, degree + 1, 1.0));
+            assertMatchesHorner(p, xs, evaluator.evaluate(p), 1e-9);
+        }
+    }
+
+    @Test
+    @DisplayName("Дерево переиспользуется для нескольких полиномов")
+    void testReuse() {
+        Random random = new Random(21);
+        double[] xs = randomArray(random, 500, 0.1);
+        MultipointEvaluator evaluator = new MultipointEvaluator(xs);
+        double[] out = new double[xs.length + 3];
+
+        for (int degree : new int[] {0, 10, 499, 900}) {
+            Polynomial p = new Polynomial(randomArray(random, degree + 1, 1.0));
+            evaluator.evaluate(p, out);
+            for (int i = 0; i < xs.length; i++) {
+                assertEquals(p.evaluate(xs[i]), out[i], 1e-9, "Степень " + degree + ", точка " + i);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Входной массив копируется, неверные аргументы отклоняются")
+    void testArguments() {
+        double[] xs = {1, 2, 3};
+        MultipointEvaluator evaluator = new MultipointEvaluator(xs);
+        xs[0] = 100;
+        assertEquals(2.0, evaluator.evaluate(new Polynomial(1, 1))[0], 1e-12,
+            "Изменение исходного массива не должно влиять на вычислитель");
+
+        assertThrows(NullPointerException.class, () -> new MultipointEvaluator(null));
+        assertThrows(IllegalArgumentException.class, () -> new MultipointEvaluator(new double[0]));
+        assertThrows(IndexOutOfBoundsException.class, () -> evaluator.evaluate(new Polynomial(1), new double[2]));
+    }
+}
@@ -471,8 +471,8 @@ class NewtonPolynomialTest {
     }
     
     @Test
-    @DisplayName("Тест для неиспользуемого метода computeDividedDifferences")
-    void testComputeDividedDifferences() throws Exception {
+    @DisplayName("Тест таблицы разделенных разностей полинома")
+    void testDividedDifferenceTableValues() {
         // Создаем полином для тестирования
         List<Point> points = List.of(
             new Point(0.0, 1.0),
@@ -481,36 +481,228 @@ class NewtonPolynomialTest {
         );
         NewtonPolynomial np = new NewtonPolynomial(points);
         
-        // Получаем доступ к приватному методу через рефлексию
-        java.lang.reflect.Method method = NewtonPolynomial.class.getDeclaredMethod(
-            "computeDividedDifferences", 
-            double[].class, 
-            double[].class
-        );
-        method.setAccessible(true);
-        
-        // Подготавливаем входные данные
-        double[] xValues = new double[]{0.0, 1.0, 2.0};
-        double[] yValues = new double[]{1.0, 3.0, 7.0};
+        double[][] result = np.getDividedDifferenceTable();
         
-        // Вызываем метод
-        double[][] result = (double[][]) method.invoke(np, xValues, yValues);
-        
-        // Проверяем результат
+        // Проверяем результат: строка k содержит разности порядка k
         assertNotNull(result, "Результат не должен быть null");
-        assertEquals(3, result.length, "Таблица должна иметь 3 строки");
-        assertEquals(3, result[0].length, "Первая строка должна иметь 3 столбца");
+        assertEquals(3, result.length, "Таблица должна иметь 3 порядка разностей");
+        assertEquals(3, result[0].length, "Нулевой порядок должен иметь 3 значения");
         
-        // Проверяем первый столбец (начальные y-значения)
+        // Проверяем нулевой порядок (начальные y-значения)
         assertEquals(1.0, result[0][0], 1e-10);
-        assertEquals(3.0, result[1][0], 1e-10);
-        assertEquals(7.0, result[2][0], 1e-10);
+        assertEquals(3.0, result[0][1], 1e-10);
+        assertEquals(7.0, result[0][2], 1e-10);
         
         // Проверяем разделенные разности первого порядка
-        assertEquals(2.0, result[0][1], 1e-10); // (3-1)/(1-0) = 2
+        assertEquals(2.0, result[1][0], 1e-10); // (3-1)/(1-0) = 2
         assertEquals(4.0, result[1][1], 1e-10); // (7-3)/(2-1) = 4
         
         // Проверяем разделенную разность второго порядка
-        assertEquals(1.0, result[0][2], 1e-10); // (4-2)/(2-0) = 1
+        assertEquals(1.0, result[2][0], 1e-10); // (4-2)/(2-0) = 1
+    }
+
+    @Test
+    @DisplayName("Пакетное вычисление в форме Ньютона совпадает с интерполяцией Лагранжа")
+    void testBatchEvaluate() {
+        List<Point> points = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            points.add(new Point(i * 0.3, Math.sin(i * 0.3)));
+        }
+        NewtonPolynomial np = new NewtonPolynomial(points);
+        math.LagrangePolynomial reference = new math.LagrangePolynomial(points);
+        
+        double[] xs = new double[500];
+        for (int i = 0; i < xs.length; i++) {
+            xs[i] = -0.5 + 3.5 * i / xs.length;
+        }
+        xs[10] = points.get(3).getX();
+        double[] out = new double[xs.length];
+        
+        np.evaluate(xs, out);
+        for (int i = 0; i < xs.length; i++) {
+            assertEquals(reference.evaluate(xs[i]), out[i], 1e-9, "Значение в точке " + xs[i] + " должно совпадать");
+        }
+        assertEquals(points.get(3).getY(), out[10], "В узле должно возвращаться значение узла");
+    }
+
+    @Test
+    @DisplayName("Пакетное вычисление пустого полинома Ньютона")
+    void testBatchEvaluateEmpty() {
+        NewtonPolynomial np = new NewtonPolynomial();
+        double[] out = {1.0, 1.0};
+        np.evaluate(new double[] {3.0, 4.0}, out);
+        assertArrayEquals(new double[] {0.0, 0.0}, out);
+    }
+
+    @Test
+    @DisplayName("Узлы в порядке добавления: точки не сортируются, значения совпадают с Лагранжем")
+    void testInsertionOrder() {
+        NewtonPolynomial np = NewtonPolynomial.inInsertionOrder();
+        assertTrue(np.isInsertionOrder());
+        assertFalse(new NewtonPolynomial().isInsertionOrder());
+        
+        double[] order = {0.9, -0.4, 0.1, 1.7, -1.2, 0.6, 1.3, -0.8};
+        List<Point> points = new ArrayList<>();
+        double[] xs = new double[300];
+        for (int i = 0; i < xs.length; i++) {
+            xs[i] = -1.5 + 3.5 * i / xs.length;
+        }
+        double[] out = new double[xs.length];
+        
+        for (double x : order) {
+            Point p = new Point(x, Math.exp(x) - x * x);
+            np.addPoint(p);
+            points.add(p);
+            
+            if (points.size() < 2) continue;
+            math.LagrangePolynomial reference = new math.LagrangePolynomial(points);
+            np.evaluate(xs, out);
+            for (int i = 0; i < xs.length; i++) {
+                assertEquals(reference.evaluate(xs[i]), out[i], 1e-9,
+                    points.size() + " узлов, значение в точке " + xs[i]);
+            }
+        }
+        
+        assertEquals(points, np.getPoints(), "Точки должны храниться в порядке добавления");
+        assertEquals(order.length - 1, np.degree());
+        assertEquals(points.get(2).getY(), np.evaluate(points.get(2).getX()), 1e-12);
+        assertThrows(IllegalArgumentException.class, () -> np.addPoint(new Point(0.1, 5.0)));
+    }
+    
+    @Test
+    @DisplayName("Удаление узла в порядке добавления пересчитывает разности, порядок сохраняется")
+    void testInsertionOrderRemoveAndAddPoints() {
+        NewtonPolynomial np = NewtonPolynomial.inInsertionOrder();
+        np.addPoints(List.of(new Point(2, 4), new Point(0, 0), new Point(1, 1), new Point(-1, 1)));
+        assertTrue(np.removePoint(new Point(0, 0)));
+        np.addPoint(new Point(3, 9));
+        
+        assertEquals(List.of(new Point(2, 4), new Point(1, 1), new Point(-1, 1), new Point(3, 9)), np.getPoints());
+        double[] out = new double[3];
+        np.evaluate(new double[] {0.5, -2.0, 4.0}, out);
+        assertArrayEquals(new double[] {0.25, 4.0, 16.0}, out, 1e-10);
+    }
+
+    @Test
+    @DisplayName("Вычисление во вложенной форме Ньютона не строит мономиальные коэффициенты")
+    void testNestedFormEvaluate() {
+        List<Point> points = new ArrayList<>();
+        for (int i = 0; i < 12; i++) {
+            double x = Math.cos(Math.PI * (2 * i + 1) / 24);
+            points.add(new Point(x, 1.0 / (1.0 + 25 * x * x)));
+        }
+        NewtonPolynomial np = new NewtonPolynomial(points);
+        math.LagrangePolynomial reference = new math.LagrangePolynomial(points);
+        
+        for (double x = -1.0; x <= 1.0; x += 0.05) {
+            assertEquals(reference.evaluate(x), np.evaluate(x), 1e-12, "Значение в точке " + x);
+        }
+        assertEquals(points.get(4).getY(), np.evaluate(points.get(4).getX()), "В узле должно возвращаться значение узла");
+        assertFalse(np.hasMaterializedCoefficients(), "Вычисление значений не должно строить коэффициенты");
+        
+        np.getCoefficients();
+        assertTrue(np.hasMaterializedCoefficients());
+        np.addPoint(new Point(2.0, 0.0));
+        assertFalse(np.hasMaterializedCoefficients(), "Добавление точки не должно сразу перестраивать коэффициенты");
+    }
+
+    @Test
+    @DisplayName("Мономиальные коэффициенты совпадают с исходным полиномом")
+    void testStandardFormCoefficients() {
+        // p(x) = x⁵ - 2x³ + 0.5x - 3
+        double[] expected = {-3, 0.5, 0, -2, 0, 1};
+        NewtonPolynomial np = NewtonPolynomial.inInsertionOrder();
+        for (double x : new double[] {1.5, -0.5, 0.0, 2.0, -1.0, 0.75}) {
+            double y = 0.0;
+            for (int k = expected.length - 1; k >= 0; k--) {
+                y = y * x + expected[k];
+            }
+            np.addPoint(new Point(x, y));
+        }
+        
+        List<Double> coeffs = np.getCoefficients();
+        assertEquals(expected.length, coeffs.size());
+        for (int k = 0; k < expected.length; k++) {
+            assertEquals(expected[k], coeffs.get(k), 1e-10, "Коэффициент при x^" + k);
+        }
+        assertEquals(np.evaluate(1.3), new math.Polynomial(coeffs).evaluate(1.3), 1e-10,
+            "Мономиальная и ньютоновская формы должны давать одно значение");
+    }
+
+    @Test
+    @DisplayName("Удаление крайних узлов пересчитывает разделенные разности без перестроения")
+    void testRemoveDowndate() {
+        NewtonPolynomial window = NewtonPolynomial.inInsertionOrder();
+        for (int i = 0; i < 8; i++) {
+            window.addPoint(new Point(0.25 * i, Math.cos(0.25 * i)));
+        }
+        
+        // Скользящее окно: добавляем новую точку, удаляем самую старую
+        for (int tick = 8; tick < 40; tick++) {
+            double x = 0.25 * tick;
+            window.addPoint(new Point(x, Math.cos(x)));
+            assertTrue(window.removePoint(0.25 * (tick - 8)));
+            
+            List<Point> current = window.getPoints();
+            double[] xs = current.stream().mapToDouble(Point::getX).toArray();
+            double[] ys = current.stream().mapToDouble(Point::getY).toArray();
+            assertArrayEquals(math.DividedDifferences.diagonal(xs, ys), window.getDividedDifferences(), 1e-9,
+                "Разности после шага " + tick);
+        }
+        
+        // Удаление последнего добавленного узла
+        assertTrue(window.removePoint(0.25 * 39));
+        window.addPoint(new Point(20.0, Math.cos(20.0)));
+        List<Point> current = window.getPoints();
+        double[] xs = current.stream().mapToDouble(Point::getX).toArray();
+        double[] ys = current.stream().mapToDouble(Point::getY).toArray();
+        assertArrayEquals(math.DividedDifferences.diagonal(xs, ys), window.getDividedDifferences(), 1e-9);
+        assertFalse(window.removePoint(100.0), "Отсутствующий узел не удаляется");
+    }
+    
+    @Test
+    @DisplayName("После удаления старых узлов в порядке добавления все операции видят оставшиеся узлы")
+    void testRemoveOldestKeepsNodeOrder() {
+        NewtonPolynomial np = NewtonPolynomial.inInsertionOrder();
+        for (int i = 0; i < 30; i++) {
+            np.addPoint(new Point(i, 0.5 * i * i - 3));
+            if (i >= 4) {
+                assertTrue(np.removePoint(i - 4.0));
+            }
+        }
+        
+        List<Point> expected = List.of(new Point(26, 335), new Point(27, 361.5), new Point(28, 389), new Point(29, 417.5));
+        assertEquals(expected, np.getPoints());
+        assertEquals(List.of(-3.0, 0.0, 0.5), np.getCoefficients().subList(0, 3));
+        assertEquals(0.5, np.getDividedDifferenceTable()[2][1], 1e-9);
+        assertEquals(expected.get(1).getY(), np.evaluate(27.0));
+        
+        assertEquals(2, np.removePoints(List.of(new Point(26, 335), new Point(28, 389))));
+        assertEquals(List.of(new Point(27, 361.5), new Point(29, 417.5)), np.getPoints());
+        np.addPoint(new Point(30, 447));
+        assertEquals(0.5 * 31 * 31 - 3, np.evaluate(31.0), 1e-9);
+        assertThrows(IllegalArgumentException.class, () -> np.addPoint(new Point(27, 0)));
+    }
+    
+    @Test
+    @DisplayName("Удаление по x и пакетное удаление для отсортированных узлов")
+    void testRemoveByXAndRemovePoints() {
+        List<Point> points = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            points.add(new Point(i, i * i * 0.5 - i));
+        }
+        NewtonPolynomial np = new NewtonPolynomial(points);
+        np.evaluate(0.5);
+        
+        assertTrue(np.removePoint(9.0));
+        assertTrue(np.removePoint(0.0));
+        assertTrue(np.removePoint(5.0));
+        assertFalse(np.removePoint(new Point(3.0, 100.0)), "Точка с другим y не удаляется");
+        
+        assertEquals(3, np.removePoints(List.of(new Point(1, -0.5), new Point(7, 17.5), new Point(8, 24),
+            new Point(42, 0), new Point(1, -0.5))));
+        assertEquals(List.of(new Point(2, 0), new Point(3, 1.5), new Point(4, 4), new Point(6, 12)), np.getPoints());
+        assertEquals(0.5 * 25 - 5, np.evaluate(5.0), 1e-10, "Квадратичная функция восстанавливается по оставшимся узлам");
+        assertArrayEquals(new double[] {0.0, 1.5, 0.5, 0.0}, np.getDividedDifferences(), 1e-12);
     }
 } 
\ No newline at end of file
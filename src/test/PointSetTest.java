@@ -0,0 +1,99 @@
+package test;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.util.List;
+import java.util.stream.DoubleStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import math.LagrangePolynomial;
+import math.NewtonPolynomial;
+import math.Point;
+import math.PointSet;
+
+class PointSetTest {
+
+    @Test
+    @DisplayName("Набор точек сортируется по x вместе с y")
+    void testSorting() {
+        double[] xs = {3, -1, 2, 0, 5, 4, 1};
+        double[] ys = {30, -10, 20, 0, 50, 40, 10};
+        PointSet set = PointSet.of(xs, ys);
+
+        assertEquals(7, set.size());
+        for (int i = 0; i < set.size(); i++) {
+            assertEquals(i - 1, set.getX(i), "x должны быть отсортированы");
+            assertEquals(10 * (i - 1), set.getY(i), "y должны следовать за своими x");
+        }
+        assertEquals(3.0, xs[0], "Исходные массивы не должны изменяться");
+        assertThrows(IndexOutOfBoundsException.class, () -> set.getX(7));
+    }
+
+    @Test
+    @DisplayName("Создание из чередующихся координат и из потока")
+    void testPairs() {
+        PointSet fromArray = PointSet.ofPairs(2, 4, 0, 0, 1, 1);
+        PointSet fromStream = PointSet.ofPairs(DoubleStream.of(2, 4, 0, 0, 1, 1));
+
+        assertEquals(fromArray, fromStream);
+        assertEquals(fromArray.hashCode(), fromStream.hashCode());
+        assertEquals(List.of(new Point(0, 0), new Point(1, 1), new Point(2, 4)), fromArray.toList());
+        assertTrue(PointSet.ofPairs().isEmpty());
+        assertSame(PointSet.empty(), PointSet.of(new double[0], new double[0]));
+    }
+
+    @Test
+    @DisplayName("Некорректные входные данные отклоняются")
+    void testValidation() {
+        assertThrows(IllegalArgumentException.class, () -> PointSet.of(new double[] {1, 2}, new double[] {1}));
+        assertThrows(IllegalArgumentException.class, () -> PointSet.ofPairs(1, 2, 3));
+        assertThrows(IllegalArgumentException.class, () -> PointSet.ofPairs(1, 2, 0, 5, 1, 3),
+            "Дублирующиеся x недопустимы");
+        assertThrows(NullPointerException.class, () -> PointSet.of(null, new double[0]));
+        assertThrows(NullPointerException.class, () -> PointSet.ofPairs((DoubleStream) null));
+    }
+
+    @Test
+    @DisplayName("Интерполяционные полиномы по набору точек совпадают с построенными по списку")
+    void testInterpolantConstructors() {
+        double[] xs = new double[40];
+        double[] ys = new double[40];
+        for (int i = 0; i < xs.length; i++) {
+            xs[i] = Math.cos(Math.PI * (2 * i + 1) / 80);
+            ys[i] = Math.exp(xs[i]);
+        }
+        PointSet set = PointSet.of(xs, ys);
+        LagrangePolynomial fromSet = LagrangePolynomial.of(set);
+        LagrangePolynomial fromList = new LagrangePolynomial(set.toList());
+
+        for (double x = -1; x <= 1; x += 0.01) {
+            assertEquals(fromList.evaluate(x), fromSet.evaluate(x), 1e-12, "Значения в точке " + x);
+        }
+
+        NewtonPolynomial newton = NewtonPolynomial.of(PointSet.ofPairs(0, 1, 1, 3, 2, 7));
+        assertEquals(13.0, newton.evaluate(3.0), 1e-10);
+        assertEquals(2, newton.degree());
+        assertEquals(0, NewtonPolynomial.of(PointSet.empty()).getPoints().size());
+        assertThrows(IllegalArgumentException.class, () -> LagrangePolynomial.of(PointSet.empty()));
+    }
+
+    @Test
+    @DisplayName("Изменение полинома не затрагивает общий набор точек")
+    void testCopyOnWrite() {
+        PointSet set = PointSet.ofPairs(0, 0, 1, 1, 2, 4, 3, 9);
+
+        LagrangePolynomial lagrange = LagrangePolynomial.of(set);
+        assertTrue(lagrange.removePoint(new Point(1, 1)));
+        lagrange.addPoint(new Point(5, 25));
+
+        NewtonPolynomial newton = NewtonPolynomial.of(set);
+        assertTrue(newton.removePoint(new Point(0, 0)));
+        newton.addPoint(new Point(-1, 1));
+
+        assertEquals(PointSet.ofPairs(0, 0, 1, 1, 2, 4, 3, 9), set, "Набор точек не должен изменяться");
+        assertEquals(4, lagrange.getPoints().size());
+        assertEquals(new Point(-1, 1), newton.getPoints().get(0));
+    }
+}
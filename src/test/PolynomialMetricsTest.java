@@ -0,0 +1,185 @@
+package test;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.management.Attribute;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import math.LagrangePolynomial;
+import math.NewtonPolynomial;
+import math.Point;
+import math.Polynomial;
+import math.PolynomialMetrics;
+import math.PolynomialMetricsListener;
+
+class PolynomialMetricsTest {
+
+    private static final List<Point> POINTS = List.of(
+        new Point(0, 1), new Point(1, 3), new Point(2, 2), new Point(3, 5));
+
+    @BeforeEach
+    void setUp() {
+        PolynomialMetrics.reset();
+    }
+
+    @AfterEach
+    void tearDown() {
+        PolynomialMetrics.setEnabled(false);
+        PolynomialMetrics.reset();
+    }
+
+    @Test
+    @DisplayName("Выключенные метрики не учитывают события")
+    void testDisabled() {
+        assertFalse(PolynomialMetrics.isEnabled());
+        LagrangePolynomial lagrange = new LagrangePolynomial(POINTS);
+        lagrange.evaluate(0.5);
+        lagrange.getCoefficients();
+
+        assertEquals(0, PolynomialMetrics.getConstructionCount());
+        assertEquals(0, PolynomialMetrics.getEvaluationCount());
+        assertEquals(0, PolynomialMetrics.getRebuildCount());
+        assertEquals(0, PolynomialMetrics.getCoefficientListCount());
+        assertEquals(0, PolynomialMetrics.getEvaluationLatency().getCount());
+    }
+
+    @Test
+    @DisplayName("Счетчики полинома Лагранжа: построение, вычисление, перестроение")
+    void testLagrangeCounters() {
+        PolynomialMetrics.setEnabled(true);
+        LagrangePolynomial lagrange = new LagrangePolynomial(POINTS);
+        assertEquals(1, PolynomialMetrics.getConstructionCount());
+        assertEquals(1, PolynomialMetrics.getWeightRecomputationCount());
+        assertEquals(1, PolynomialMetrics.getConstructionLatency().getCount());
+
+        for (int i = 0; i < 3; i++) {
+            lagrange.evaluate(0.5 + i);
+        }
+        assertEquals(3, PolynomialMetrics.getEvaluationCount());
+        assertEquals(3, PolynomialMetrics.getEvaluationLatency().getCount());
+        assertEquals(0, PolynomialMetrics.getRebuildCount(), "Вычисление не строит коэффициенты");
+
+        lagrange.getCoefficients();
+        lagrange.getCoefficients();
+        assertEquals(1, PolynomialMetrics.getRebuildCount(), "Коэффициенты строятся один раз");
+        assertEquals(2, PolynomialMetrics.getCoefficientListCount(), "Каждый вызов копирует коэффициенты");
+
+        lagrange.addPoint(new Point(4, 0));
+        lagrange.evaluate(0.5);
+        assertEquals(1, PolynomialMetrics.getWeightRecomputationCount(), "Веса обновляются инкрементально");
+    }
+
+    @Test
+    @DisplayName("Ленивый пересчет разделенных разностей Ньютона виден в счетчике весов")
+    void testNewtonLazyRecomputation() {
+        PolynomialMetrics.setEnabled(true);
+        NewtonPolynomial newton = new NewtonPolynomial(POINTS);
+        assertEquals(1, PolynomialMetrics.getConstructionCount());
+        assertEquals(0, PolynomialMetrics.getWeightRecomputationCount());
+
+        newton.evaluate(0.5);
+        newton.evaluate(1.5);
+        assertEquals(1, PolynomialMetrics.getWeightRecomputationCount(), "Разности строятся при первом вычислении");
+
+        newton.addPoint(new Point(1.5, 0));
+        newton.evaluate(0.5);
+        assertEquals(2, PolynomialMetrics.getWeightRecomputationCount());
+
+        newton.toString();
+        assertEquals(1, PolynomialMetrics.getRebuildCount());
+    }
+
+    @Test
+    @DisplayName("Пакетное вычисление учитывает каждую точку, но не попадает в гистограмму")
+    void testBatchEvaluation() {
+        PolynomialMetrics.setEnabled(true);
+        Polynomial p = new Polynomial(1, 2, 3);
+        double[] xs = {0.5, 1, 2, 3, 4};
+        p.evaluate(xs, new double[xs.length]);
+        p.evaluate(1.0);
+
+        assertEquals(xs.length + 1, PolynomialMetrics.getEvaluationCount());
+        assertEquals(1, PolynomialMetrics.getEvaluationLatency().getCount());
+        assertTrue(PolynomialMetrics.getEvaluationLatency().getPercentile(0.5)
+            <= PolynomialMetrics.getEvaluationLatency().getMax());
+    }
+
+    @Test
+    @DisplayName("Слушатель получает события с полиномом и может быть удален")
+    void testListener() {
+        List<String> events = new ArrayList<>();
+        PolynomialMetricsListener listener = new PolynomialMetricsListener() {
+            @Override
+            public void onConstruction(Polynomial polynomial, long nanos) {
+                events.add("construction:" + polynomial.degree());
+            }
+
+            @Override
+            public void onRebuild(Polynomial polynomial, long nanos) {
+                assertTrue(nanos >= 0);
+                events.add("rebuild");
+            }
+
+            @Override
+            public void onEvaluation(Polynomial polynomial, int points, long nanos) {
+                events.add("evaluation:" + points);
+            }
+
+            @Override
+            public void onCoefficientList(Polynomial polynomial) {
+                events.add("coefficients");
+            }
+        };
+
+        PolynomialMetrics.addListener(listener);
+        try {
+            PolynomialMetrics.setEnabled(true);
+            LagrangePolynomial lagrange = new LagrangePolynomial(POINTS);
+            lagrange.evaluate(0.5);
+            lagrange.toString();
+            lagrange.getCoefficients();
+            assertEquals(List.of("construction:3", "evaluation:1", "rebuild", "coefficients"), events,
+                "Построенные в toString коэффициенты не перестраиваются при копировании");
+        } finally {
+            assertTrue(PolynomialMetrics.removeListener(listener));
+        }
+
+        new LagrangePolynomial(POINTS);
+        assertEquals(4, events.size());
+        assertThrows(NullPointerException.class, () -> PolynomialMetrics.addListener(null));
+    }
+
+    @Test
+    @DisplayName("Метрики доступны через JMX")
+    void testMBean() throws Exception {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName name = new ObjectName(PolynomialMetrics.OBJECT_NAME);
+        PolynomialMetrics.registerMBean();
+        PolynomialMetrics.registerMBean(); // Повторная регистрация допустима
+        try {
+            server.setAttribute(name, new Attribute("Enabled", true));
+            assertTrue(PolynomialMetrics.isEnabled());
+
+            new NewtonPolynomial(POINTS).getCoefficients();
+            assertEquals(1L, server.getAttribute(name, "ConstructionCount"));
+            assertEquals(1L, server.getAttribute(name, "RebuildCount"));
+            assertEquals(1L, server.getAttribute(name, "CoefficientListCount"));
+
+            server.invoke(name, "reset", null, null);
+            assertEquals(0L, server.getAttribute(name, "RebuildCount"));
+        } finally {
+            PolynomialMetrics.unregisterMBean();
+        }
+        assertFalse(server.isRegistered(name));
+    }
+}
@@ -9,17 +9,29 @@ import org.junit.jupiter.params.provider.MethodSource;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Random;
 import java.util.stream.Stream;
 import java.util.ArrayList;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import math.EvaluationScheme;
 import math.Polynomial;
 
 class PolynomialTest {
     // Локальная константа для тестов, значение совпадает с константой в Polynomial
     private static final double EPSILON = 1e-10;
 
+    /**
+     * Возвращает случайные коэффициенты из [-1, 1) со старшим коэффициентом 1.
+     */
+    private static double[] randomCoefficients(Random random, int length) {
+        double[] c = new double[length];
+        for (int i = 0; i < length; i++) c[i] = random.nextDouble() * 2 - 1;
+        c[length - 1] = 1.0;
+        return c;
+    }
+
     @Test
     @DisplayName("Тест конструктора по умолчанию")
     void testDefaultConstructor() {
@@ -100,6 +112,37 @@ class PolynomialTest {
         }
     }
 
+    @Test
+    @DisplayName("Тест updateCoefficients с массивом примитивов")
+    void testUpdateCoefficientsWithPrimitiveArray() throws Exception {
+        Polynomial p = new Polynomial(1.0, 2.0, 3.0);
+        double[] newCoeffs = {4.0, 5.0, 0.0};
+        
+        java.lang.reflect.Method method = Polynomial.class.getDeclaredMethod(
+            "updateCoefficients", double[].class);
+        method.setAccessible(true);
+        method.invoke(p, (Object) newCoeffs);
+        
+        assertEquals(1, p.degree(), "Старшие нули должны быть отброшены");
+        assertEquals(Arrays.asList(4.0, 5.0), p.getCoefficients(), "Коэффициенты должны быть обновлены");
+        
+        newCoeffs[0] = 100.0;
+        assertEquals(4.0, p.getCoefficients().get(0), "Полином не должен зависеть от переданного массива");
+    }
+
+    @Test
+    @DisplayName("Тест представления коэффициентов только для чтения")
+    void testCoefficientsView() {
+        Polynomial p = new Polynomial(1.0, 2.0, 3.0);
+        java.nio.DoubleBuffer view = p.getCoefficientsView();
+        
+        assertEquals(3, view.remaining(), "Представление должно содержать все коэффициенты");
+        assertEquals(1.0, view.get(0));
+        assertEquals(3.0, view.get(2));
+        assertTrue(view.isReadOnly(), "Представление должно быть только для чтения");
+        assertThrows(java.nio.ReadOnlyBufferException.class, () -> view.put(0, 10.0));
+    }
+
     @Test
     @DisplayName("Тест метода toString")
     void testToString() {
@@ -212,6 +255,87 @@ class PolynomialTest {
         assertEquals(expected, result, "Multiplication should be correct");
     }
     
+    @Test
+    @DisplayName("Умножение Карацубы совпадает с классическим умножением")
+    void testKaratsubaMatchesSchoolbook() {
+        Random random = new Random(42);
+        int[][] sizes = {{40, 40}, {100, 57}, {257, 64}, {33, 500}, {128, 1}};
+        int defaultThreshold = Polynomial.getKaratsubaThreshold();
+        
+        try {
+            for (int[] size : sizes) {
+                double[] a = randomCoefficients(random, size[0]);
+                double[] b = randomCoefficients(random, size[1]);
+                
+                Polynomial.setKaratsubaThreshold(Integer.MAX_VALUE);
+                Polynomial expected = new Polynomial(a).multiply(new Polynomial(b));
+                Polynomial.setKaratsubaThreshold(4);
+                Polynomial actual = new Polynomial(a).multiply(new Polynomial(b));
+                
+                assertEquals(expected.degree(), actual.degree(), "Степени произведений должны совпадать");
+                List<Double> e = expected.getCoefficients();
+                List<Double> r = actual.getCoefficients();
+                for (int i = 0; i < e.size(); i++) {
+                    assertEquals(e.get(i), r.get(i), 1e-9, "Коэффициент " + i + " должен совпадать");
+                }
+            }
+        } finally {
+            Polynomial.setKaratsubaThreshold(defaultThreshold);
+        }
+    }
+
+    @Test
+    @DisplayName("Порог Карацубы должен быть положительным")
+    void testKaratsubaThresholdValidation() {
+        assertThrows(IllegalArgumentException.class, () -> Polynomial.setKaratsubaThreshold(0));
+    }
+
+    @Test
+    @DisplayName("Умножение через БПФ укладывается в документированную оценку погрешности")
+    void testFftMatchesSchoolbookWithinBound() {
+        Random random = new Random(7);
+        int[][] sizes = {{2, 2}, {300, 300}, {1000, 37}, {513, 700}};
+        int defaultKaratsuba = Polynomial.getKaratsubaThreshold();
+        int defaultFft = Polynomial.getFftThreshold();
+        
+        try {
+            for (int[] size : sizes) {
+                double[] a = randomCoefficients(random, size[0]);
+                double[] b = randomCoefficients(random, size[1]);
+                
+                Polynomial.setKaratsubaThreshold(Integer.MAX_VALUE);
+                Polynomial expected = new Polynomial(a).multiply(new Polynomial(b));
+                Polynomial.setKaratsubaThreshold(1);
+                Polynomial.setFftThreshold(1);
+                Polynomial actual = new Polynomial(a).multiply(new Polynomial(b));
+                Polynomial.setFftThreshold(defaultFft);
+                
+                double normA = 0, normB = 0;
+                for (double v : a) normA += v * v;
+                for (double v : b) normB += v * v;
+                int n = Integer.highestOneBit(a.length + b.length - 1) * 2;
+                double bound = Math.sqrt(normA * normB) * Math.ulp(1.0) / 2
+                    * (3 * (Math.log(n) / Math.log(2)) + 5);
+                
+                assertEquals(expected.degree(), actual.degree(), "Степени произведений должны совпадать");
+                List<Double> e = expected.getCoefficients();
+                List<Double> r = actual.getCoefficients();
+                for (int i = 0; i < e.size(); i++) {
+                    assertEquals(e.get(i), r.get(i), bound, "Коэффициент " + i + " вне оценки погрешности");
+                }
+            }
+        } finally {
+            Polynomial.setKaratsubaThreshold(defaultKaratsuba);
+            Polynomial.setFftThreshold(defaultFft);
+        }
+    }
+
+    @Test
+    @DisplayName("Порог БПФ должен быть положительным")
+    void testFftThresholdValidation() {
+        assertThrows(IllegalArgumentException.class, () -> Polynomial.setFftThreshold(0));
+    }
+
     @Test
     @DisplayName("Test multiply polynomial with zero coefficients")
     void testMultiplyPolynomialWithZeros() {
@@ -424,12 +548,11 @@ class PolynomialTest {
             java.lang.reflect.Field coefficientsField = Polynomial.class.getDeclaredField("coefficients");
             coefficientsField.setAccessible(true);
             
-            // Replace the coefficients with an empty list to simulate negative degree situation
-            List<Double> emptyList = new ArrayList<>();
-            coefficientsField.set(p, emptyList);
+            // Replace the coefficients with an empty array to simulate negative degree situation
+            coefficientsField.set(p, new double[0]);
             
             // Now call the degree method - it should return -1
-            assertEquals(-1, p.degree(), "Degree should be -1 when coefficients list is empty");
+            assertEquals(-1, p.degree(), "Degree should be -1 when coefficients array is empty");
             
             // Now test the lastCoefficient method
             java.lang.reflect.Method lastCoeffMethod = Polynomial.class.getDeclaredMethod("lastCoefficient");
@@ -456,25 +579,25 @@ class PolynomialTest {
             coefficientsField.setAccessible(true);
             
             // First verify the initial state has [0.0]
-            List<Double> initialCoeffs = (List<Double>) coefficientsField.get(p);
-            assertEquals(List.of(0.0), initialCoeffs, "Initial coefficients should be [0.0]");
+            double[] initialCoeffs = (double[]) coefficientsField.get(p);
+            assertArrayEquals(new double[] {0.0}, initialCoeffs, "Initial coefficients should be [0.0]");
             
-            // Now set the coefficients to an empty list
-            coefficientsField.set(p, new ArrayList<>());
+            // Now set the coefficients to an empty array
+            coefficientsField.set(p, new double[0]);
             
-            // Verify that the list is now empty
-            List<Double> emptyList = (List<Double>) coefficientsField.get(p);
-            assertTrue(emptyList.isEmpty(), "Coefficients list should be empty");
+            // Verify that the array is now empty
+            double[] emptyArray = (double[]) coefficientsField.get(p);
+            assertEquals(0, emptyArray.length, "Coefficients array should be empty");
             
             // Now trigger the code path by calling a method that uses updateCoefficients
             java.lang.reflect.Method updateMethod = Polynomial.class.getDeclaredMethod("updateCoefficients", List.class);
             updateMethod.setAccessible(true);
             updateMethod.invoke(p, new ArrayList<>());
             
-            // Verify that 0.0 was added to the empty list
-            List<Double> resultList = (List<Double>) coefficientsField.get(p);
-            assertEquals(1, resultList.size(), "Coefficients list should have one element");
-            assertEquals(0.0, resultList.get(0), "The element should be 0.0");
+            // Verify that 0.0 was added to the empty array
+            double[] resultArray = (double[]) coefficientsField.get(p);
+            assertEquals(1, resultArray.length, "Coefficients array should have one element");
+            assertEquals(0.0, resultArray[0], "The element should be 0.0");
             
         } catch (Exception e) {
             fail("Exception while testing adding 0.0 to empty coefficients: " + e.getMessage());
@@ -621,4 +744,104 @@ class PolynomialTest {
         assertEquals(0, p.degree(), "Polynomial with zero-length array should have degree 0");
         assertEquals(List.of(0.0), p.getCoefficients(), "Polynomial with zero-length array should have [0.0]");
     }
-} 
\ No newline at end of file
+
+    @Test
+    @DisplayName("Пакетное вычисление совпадает с поточечным")
+    void testBatchEvaluate() {
+        Polynomial p = new Polynomial(1.0, -2.0, 0.5, 3.0);
+        double[] xs = new double[600];
+        for (int i = 0; i < xs.length; i++) {
+            xs[i] = -3.0 + i * 0.01;
+        }
+        xs[7] = 0.0;
+        double[] out = new double[xs.length];
+        
+        p.evaluate(xs, out);
+        for (int i = 0; i < xs.length; i++) {
+            assertEquals(p.evaluate(xs[i]), out[i], 1e-12, "Значение в точке " + xs[i] + " должно совпадать");
+        }
+    }
+
+    @Test
+    @DisplayName("Пакетное вычисление со смещениями и на месте")
+    void testBatchEvaluateWithOffsets() {
+        Polynomial p = new Polynomial(2.0, 1.0); // x + 2
+        double[] xs = {100.0, 1.0, 2.0, 3.0, 100.0};
+        double[] out = new double[6];
+        
+        p.evaluate(xs, 1, out, 2, 3);
+        assertArrayEquals(new double[] {0.0, 0.0, 3.0, 4.0, 5.0, 0.0}, out, "Должен заполняться только указанный диапазон");
+        
+        p.evaluate(xs, 0, xs, 0, xs.length);
+        assertArrayEquals(new double[] {102.0, 3.0, 4.0, 5.0, 102.0}, xs, "Массивы xs и out могут совпадать");
+        
+        assertThrows(IndexOutOfBoundsException.class, () -> p.evaluate(new double[3], new double[2]));
+        assertThrows(IndexOutOfBoundsException.class, () -> p.evaluate(new double[3], 2, new double[3], 0, 2));
+    }
+
+    @Test
+    @DisplayName("Пакетное вычисление использует ожидаемую реализацию")
+    void testEvaluationBackend() {
+        // Прогон test-simd профиля simd задает ожидаемую реализацию; без него тесты идут на основных классах
+        String expected = System.getProperty("math.polynomial.expectedBackend", "scalar");
+        assertEquals(expected, Polynomial.getEvaluationBackend());
+    }
+
+    @Test
+    @DisplayName("Пакетное вычисление высокой степени совпадает со схемой Горнера в пределах оценки")
+    void testBatchEvaluateHighDegree() {
+        Random random = new Random(6);
+        // Длины не кратны числу дорожек вектора, чтобы пройти и по хвостам
+        for (int degree : new int[] {0, 1, 5, 17, 64, 300}) {
+            double[] c = randomCoefficients(random, degree + 1);
+            Polynomial p = new Polynomial(c);
+            p.setEvaluationScheme(EvaluationScheme.HORNER);
+            double[] xs = new double[1003];
+            for (int i = 0; i < xs.length; i++) {
+                xs[i] = random.nextDouble() * 2.2 - 1.1;
+            }
+            double[] out = new double[xs.length];
+            p.evaluate(xs, out);
+
+            // Обе схемы Горнера (с FMA и без) обратно устойчивы с γ_2n, отсюда 4n·u·Σ|a_i|·|x|ⁱ
+            for (int i = 0; i < xs.length; i++) {
+                double absSum = 0.0;
+                for (int k = degree; k >= 0; k--) absSum = absSum * Math.abs(xs[i]) + Math.abs(c[k]);
+                double bound = (4.0 * degree + 2) * Math.ulp(1.0) / 2 * absSum;
+                assertEquals(p.evaluate(xs[i]), out[i], bound, "Степень " + degree + ", точка " + i);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Расщепленная схема Горнера совпадает со схемой Горнера в пределах оценки")
+    void testSplitHornerMatchesHorner() {
+        Random random = new Random(3);
+        for (int degree : new int[] {1, 2, 3, 4, 5, 7, 63, 200, 1001}) {
+            double[] c = randomCoefficients(random, degree + 1);
+            Polynomial horner = new Polynomial(c);
+            Polynomial split = new Polynomial(c);
+            horner.setEvaluationScheme(EvaluationScheme.HORNER);
+            split.setEvaluationScheme(EvaluationScheme.SPLIT_HORNER);
+            
+            for (double x : new double[] {-1.0, -0.73, 0.25, 0.999, 1.0}) {
+                double absSum = 0.0;
+                for (int i = degree; i >= 0; i--) absSum = absSum * Math.abs(x) + Math.abs(c[i]);
+                double bound = (4.0 * degree + 6) * Math.ulp(1.0) / 2 * absSum;
+                assertEquals(horner.evaluate(x), split.evaluate(x), bound,
+                    "Степень " + degree + ", x = " + x);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Схема вычисления по умолчанию и ее смена")
+    void testEvaluationSchemeSelection() {
+        Polynomial p = new Polynomial(1.0, 2.0, 3.0);
+        assertEquals(EvaluationScheme.AUTO, p.getEvaluationScheme(), "По умолчанию схема выбирается автоматически");
+        p.setEvaluationScheme(EvaluationScheme.SPLIT_HORNER);
+        assertEquals(EvaluationScheme.SPLIT_HORNER, p.getEvaluationScheme());
+        assertEquals(1.0 + 2.0 * 2 + 3.0 * 4, p.evaluate(2.0), EPSILON);
+        assertThrows(NullPointerException.class, () -> p.setEvaluationScheme(null));
+    }
+} 
\ No newline at end of file
@@ -0,0 +1,81 @@
+package test;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import math.LagrangePolynomial;
+import math.NewtonPolynomial;
+import math.Point;
+import math.SlidingWindowInterpolator;
+
+class SlidingWindowInterpolatorTest {
+
+    @Test
+    @DisplayName("Окно совпадает с интерполяцией Лагранжа по последним k отсчетам")
+    void testMatchesLagrangeOverStream() {
+        int k = 6;
+        SlidingWindowInterpolator window = new SlidingWindowInterpolator(k);
+        List<Point> samples = new ArrayList<>();
+
+        for (int tick = 0; tick < 200; tick++) {
+            double t = 0.1 * tick;
+            double value = Math.sin(t) + 0.3 * Math.cos(3 * t);
+            window.push(t, value);
+            samples.add(new Point(t, value));
+
+            List<Point> last = samples.subList(Math.max(0, samples.size() - k), samples.size());
+            assertEquals(last.size(), window.size());
+            if (last.size() < 2) continue;
+
+            LagrangePolynomial reference = new LagrangePolynomial(last);
+            double mid = (last.get(0).getX() + t) / 2 + 0.013;
+            assertEquals(reference.evaluate(mid), window.evaluate(mid), 1e-9, "Шаг " + tick);
+            assertEquals(reference.evaluate(t + 0.05), window.evaluate(t + 0.05), 1e-9, "Экстраполяция, шаг " + tick);
+        }
+        assertTrue(window.isFull());
+        assertEquals(k, window.capacity());
+    }
+
+    @Test
+    @DisplayName("Отсчеты хранятся от самого старого к самому новому")
+    void testRingBufferOrder() {
+        SlidingWindowInterpolator window = new SlidingWindowInterpolator(3);
+        assertEquals(0.0, window.evaluate(1.0), "Пустое окно дает ноль");
+        for (int i = 0; i < 5; i++) {
+            window.push(i, 10 * i);
+        }
+
+        assertEquals(3, window.size());
+        assertEquals(2.0, window.getX(0));
+        assertEquals(40.0, window.getY(2));
+        assertThrows(IndexOutOfBoundsException.class, () -> window.getX(3));
+
+        NewtonPolynomial snapshot = window.toPolynomial();
+        assertEquals(List.of(new Point(2, 20), new Point(3, 30), new Point(4, 40)), snapshot.getPoints());
+        assertEquals(55.0, snapshot.evaluate(5.5), 1e-10);
+    }
+
+    @Test
+    @DisplayName("Дубликат x отклоняется без изменения окна, кроме вытесняемого отсчета")
+    void testDuplicates() {
+        SlidingWindowInterpolator window = new SlidingWindowInterpolator(2);
+        window.push(1.0, 1.0);
+        window.push(2.0, 4.0);
+
+        assertThrows(IllegalArgumentException.class, () -> window.push(2.0, 5.0));
+        assertEquals(2, window.size());
+        assertEquals(1.0, window.getX(0), "Окно не должно измениться после ошибки");
+
+        window.push(1.0, 9.0); // Совпадает только с вытесняемым отсчетом
+        assertEquals(2.0, window.getX(0));
+        assertEquals(1.0, window.getX(1));
+        assertEquals(-1.0, window.evaluate(3.0), 1e-12);
+
+        assertThrows(IllegalArgumentException.class, () -> new SlidingWindowInterpolator(0));
+    }
+}